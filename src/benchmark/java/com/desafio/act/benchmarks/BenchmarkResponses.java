@@ -0,0 +1,49 @@
+package com.desafio.act.benchmarks;
+
+import com.desafio.act.stub.DogCatalog;
+import com.desafio.act.utils.Config;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Corpos reais do catálogo do servidor substituto, usados como entrada dos benchmarks
+ * que não precisam de rede.
+ */
+final class BenchmarkResponses {
+
+    private static final DogCatalog CATALOG;
+
+    static {
+        try {
+            CATALOG = DogCatalog.load(Config.get("stub.server.catalog"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BenchmarkResponses() {
+    }
+
+    /**
+     * @return Corpo de /breeds/list/all
+     */
+    static String breedsListBody() {
+        return new String(CATALOG.breedsListBody(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param body Corpo JSON
+     * @return Response do RestAssured com status 200 e o corpo informado
+     */
+    static Response responseOf(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
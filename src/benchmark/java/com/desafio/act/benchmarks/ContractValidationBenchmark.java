@@ -0,0 +1,54 @@
+package com.desafio.act.benchmarks;
+
+import com.desafio.act.utils.Assertions;
+import com.desafio.act.utils.SchemaRegistry;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de {@link Assertions#validateApiContract} sobre o corpo de /breeds/list/all,
+ * comparado à validação direta com o schema já compilado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContractValidationBenchmark {
+
+    private static final String SCHEMA = "breeds-list-schema.json";
+
+    private String body;
+    private Response response;
+    private JsonSchema schema;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        body = BenchmarkResponses.breedsListBody();
+        response = BenchmarkResponses.responseOf(body);
+        schema = SchemaRegistry.getSchema(SCHEMA);
+    }
+
+    @Benchmark
+    public Response assertionsValidateApiContract() {
+        Assertions.validateApiContract(response, SCHEMA);
+        return response;
+    }
+
+    @Benchmark
+    public ProcessingReport baselineCompiledSchema() throws IOException, ProcessingException {
+        return schema.validate(JsonLoader.fromString(body));
+    }
+}
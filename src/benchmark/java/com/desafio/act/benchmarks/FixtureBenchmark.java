@@ -0,0 +1,49 @@
+package com.desafio.act.benchmarks;
+
+import com.desafio.act.utils.FixtureUtils;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de {@link FixtureUtils#loadFixture} e {@link FixtureUtils#getListFromFixture},
+ * comparado à leitura do classpath seguida de parse com org.json.
+ * <p>
+ * FixtureUtils memoiza cada fixture na primeira carga, então após o warmup os cenários
+ * {@code *Memoized} medem apenas o acerto de cache; o custo de leitura e parse é o da baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FixtureBenchmark {
+
+    private static final String FIXTURE = "racas.json";
+
+    @Benchmark
+    public JSONObject fixtureUtilsLoadFixtureMemoized() throws IOException {
+        return FixtureUtils.loadFixture(FIXTURE);
+    }
+
+    @Benchmark
+    public List<String> fixtureUtilsGetListFromFixtureMemoized() throws IOException {
+        return FixtureUtils.getListFromFixture(FIXTURE, "racas_esperadas");
+    }
+
+    @Benchmark
+    public JSONObject baselineRawParse() throws IOException {
+        try (InputStream inputStream = FixtureBenchmark.class.getClassLoader()
+                .getResourceAsStream("fixtures/" + FIXTURE)) {
+            return new JSONObject(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.desafio.act.benchmarks;
+
+import com.desafio.act.stub.DogApiStubServer;
+import com.desafio.act.utils.Config;
+import com.desafio.act.utils.HttpUtils;
+import com.desafio.act.utils.HttpUtils.HttpMethod;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição de {@link HttpUtils#sendRequest} contra o servidor substituto em processo,
+ * comparado ao RestAssured puro (sem filtros nem logs) e ao cliente HTTP do JDK.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HttpUtilsBenchmark {
+
+    private static final String ENDPOINT = Config.get("endpoint.imagem.aleatoria").trim();
+
+    private DogApiStubServer stub;
+    private HttpClient jdkClient;
+    private HttpRequest jdkRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = DogApiStubServer.start(0, Config.get("stub.server.catalog"), Runtime.getRuntime().availableProcessors());
+        HttpUtils.setBaseUrl(stub.getBaseUrl());
+
+        jdkClient = HttpClient.newHttpClient();
+        jdkRequest = HttpRequest.newBuilder(URI.create(stub.getBaseUrl() + "/" + ENDPOINT)).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stub.stop();
+    }
+
+    @Benchmark
+    public String httpUtilsSendRequest() {
+        return HttpUtils.sendRequestWithoutCache(HttpMethod.GET, ENDPOINT).asString();
+    }
+
+    @Benchmark
+    public String baselineRestAssured() {
+        return RestAssured.given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .baseUri(stub.getBaseUrl())
+                .when()
+                .get(ENDPOINT)
+                .then()
+                .extract().response().asString();
+    }
+
+    @Benchmark
+    public String baselineJdkHttpClient() throws IOException, InterruptedException {
+        return jdkClient.send(jdkRequest, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
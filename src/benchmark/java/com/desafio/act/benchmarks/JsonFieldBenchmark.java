@@ -0,0 +1,106 @@
+package com.desafio.act.benchmarks;
+
+import com.desafio.act.utils.HttpUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de {@link HttpUtils#getJsonFieldValue} sobre o corpo de /breeds/list/all,
+ * comparado à leitura direta com org.json e Jackson.
+ * <p>
+ * A primeira leitura de uma resposta interpreta o corpo; as seguintes reaproveitam o documento
+ * associado a ela. Por isso há dois cenários: uma Response nova a cada invocação (primeira leitura)
+ * e a mesma Response em todas as invocações (acerto de cache).
+ * <p>
+ * Na primeira leitura as Responses são montadas antes de cada iteração, fora da medição, e consumidas
+ * uma por invocação; cada iteração tem exatamente {@value #FIRST_READS} invocações, para que nenhuma
+ * Response seja lida duas vezes. O resultado é o tempo do lote: divida por {@value #FIRST_READS} para
+ * comparar com o inverso da vazão das baselines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonFieldBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    static final int FIRST_READS = 10_000;
+
+    private String body;
+    private Response response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        body = BenchmarkResponses.breedsListBody();
+        response = BenchmarkResponses.responseOf(body);
+    }
+
+    /**
+     * Responses sem documento já interpretado, uma por invocação da iteração.
+     */
+    @State(Scope.Thread)
+    public static class FreshResponses {
+
+        private String body;
+        private final Response[] pool = new Response[FIRST_READS];
+        private int next;
+
+        @Setup(Level.Trial)
+        public void loadBody() {
+            body = BenchmarkResponses.breedsListBody();
+        }
+
+        @Setup(Level.Iteration)
+        public void newResponses() {
+            for (int i = 0; i < pool.length; i++) {
+                pool[i] = BenchmarkResponses.responseOf(body);
+            }
+            next = 0;
+        }
+
+        Response next() {
+            Response response = pool[next];
+            next = (next + 1) % pool.length;
+            return response;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(batchSize = FIRST_READS)
+    @Measurement(batchSize = FIRST_READS)
+    public String httpUtilsGetJsonFieldValueFirstRead(FreshResponses fresh) {
+        return HttpUtils.getJsonFieldValue(fresh.next(), "status");
+    }
+
+    @Benchmark
+    public String httpUtilsGetJsonFieldValueCacheHit() {
+        return HttpUtils.getJsonFieldValue(response, "status");
+    }
+
+    @Benchmark
+    public String baselineOrgJson() {
+        return new JSONObject(body).getString("status");
+    }
+
+    @Benchmark
+    public String baselineJackson() throws IOException {
+        JsonNode document = MAPPER.readTree(body);
+        return document.get("status").asText();
+    }
+}
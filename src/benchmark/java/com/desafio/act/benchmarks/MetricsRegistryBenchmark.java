@@ -0,0 +1,48 @@
+package com.desafio.act.benchmarks;
+
+import com.desafio.act.utils.EndpointTemplates;
+import com.desafio.act.utils.MetricsRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de gravação do {@link MetricsRegistry} por requisição (resolução do template do endpoint incluída),
+ * com uma e com várias threads gravando nas mesmas séries. A meta é ficar abaixo de 1 µs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsRegistryBenchmark {
+
+    private static final String[] PATHS = {"/breeds/list/all", "/breed/hound/images", "/breed/hound/afghan/images"};
+
+    private MetricsRegistry registry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    @Benchmark
+    public void record() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        registry.record("GET", EndpointTemplates.of(PATHS[random.nextInt(PATHS.length)]), 200,
+                random.nextLong(1_000_000, 50_000_000));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordContended() {
+        record();
+    }
+}
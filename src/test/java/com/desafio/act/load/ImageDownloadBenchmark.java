@@ -0,0 +1,183 @@
+package com.desafio.act.load;
+
+import com.desafio.act.load.ImageDownloadReport.LevelResult;
+import com.desafio.act.utils.Config;
+import com.desafio.act.utils.HttpUtils;
+import com.desafio.act.utils.HttpUtils.HttpMethod;
+import com.desafio.act.utils.HttpUtils.Request;
+import com.desafio.act.utils.StreamingClient.Download;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark de download das imagens apontadas por /breeds/image/random, como fazem os consumidores da API:
+ * reúne N URLs e as baixa em cada nível de paralelismo configurado, com N workers em laço fechado sobre o
+ * cliente NIO do {@link HttpUtils#download}. O corpo vai direto para um arquivo por worker ou é apenas
+ * contado, sem passar por byte[].
+ *
+ * Um aquecimento com as primeiras URLs, no maior paralelismo, abre as conexões e aquece o JIT antes das
+ * medições e não entra no relatório.
+ */
+public class ImageDownloadBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageDownloadBenchmark.class);
+
+    private final int images;
+    private final int warmupImages;
+    private final int[] parallelism;
+    private final Path directory;
+    private final Map<String, String> hostRewrites = new LinkedHashMap<>();
+
+    /**
+     * @param images       URLs reunidas e baixadas em cada nível
+     * @param warmupImages Downloads de aquecimento descartados
+     * @param parallelism  Níveis de paralelismo medidos
+     * @param directory    Diretório dos arquivos baixados, ou null para descartar os corpos
+     */
+    public ImageDownloadBenchmark(int images, int warmupImages, int[] parallelism, Path directory) {
+        if (images < 1 || parallelism.length == 0 || Arrays.stream(parallelism).anyMatch(level -> level < 1)) {
+            throw new IllegalArgumentException("Quantidade de imagens e níveis de paralelismo devem ser positivos");
+        }
+        this.images = images;
+        this.warmupImages = warmupImages;
+        this.parallelism = parallelism.clone();
+        this.directory = directory;
+    }
+
+    /**
+     * Monta o benchmark a partir das propriedades download.* do test.properties.
+     *
+     * @return Benchmark configurado
+     */
+    public static ImageDownloadBenchmark fromConfig() {
+        boolean disk = "disk".equalsIgnoreCase(Config.get("download.sink").trim());
+        return new ImageDownloadBenchmark(
+                Config.getInt("download.images", 200),
+                Config.getInt("download.warmup.images", 20),
+                Arrays.stream(Config.get("download.parallelism").split(","))
+                        .map(String::trim)
+                        .mapToInt(Integer::parseInt)
+                        .toArray(),
+                disk ? Paths.get(Config.get("download.dir")) : null);
+    }
+
+    /**
+     * Redireciona os downloads de um host para outro (ex.: images.dog.ceo para o servidor substituto).
+     *
+     * @param fromPrefix Prefixo original
+     * @param toPrefix   Prefixo de destino
+     * @return Este benchmark
+     */
+    public ImageDownloadBenchmark withHostRewrite(String fromPrefix, String toPrefix) {
+        hostRewrites.put(fromPrefix, toPrefix);
+        return this;
+    }
+
+    /**
+     * Reúne as URLs e executa os downloads em cada nível de paralelismo.
+     *
+     * @return Relatório por nível
+     * @throws IOException          Se não for possível preparar o diretório de destino
+     * @throws InterruptedException Se a thread for interrompida durante a execução
+     */
+    public ImageDownloadReport run() throws IOException, InterruptedException {
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        List<String> urls = collectUrls();
+        logger.info("Benchmark de download: {} URLs, paralelismo {}", urls.size(), Arrays.toString(parallelism));
+
+        int maxParallelism = Arrays.stream(parallelism).max().orElse(1);
+        download(urls.subList(0, Math.min(warmupImages, urls.size())), new LevelResult(maxParallelism));
+
+        ImageDownloadReport report = new ImageDownloadReport(urls.size(), new HashSet<>(urls).size(),
+                directory == null ? "descarte" : directory.toString());
+        for (int level : parallelism) {
+            LevelResult result = new LevelResult(level);
+            download(urls, result);
+            report.add(result);
+            logger.info("Paralelismo {}: {} imagens, {} MB/s", level, result.getImages(),
+                    String.format("%.2f", result.megabytesPerSecond()));
+        }
+        return report;
+    }
+
+    private List<String> collectUrls() {
+        Request request = Request.of(HttpMethod.GET, Config.get("endpoint.imagem.aleatoria").trim()).withoutCache();
+        List<String> urls = new ArrayList<>(images);
+        for (Response response : HttpUtils.sendAll(Collections.nCopies(images, request))) {
+            if (response.getStatusCode() == 200) {
+                urls.add(rewrite(HttpUtils.getJsonFieldValue(response, "message")));
+            }
+        }
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("Nenhuma URL de imagem obtida de /breeds/image/random");
+        }
+        return urls;
+    }
+
+    private void download(List<String> urls, LevelResult result) throws InterruptedException {
+        int workers = result.getParallelism();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger workerCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "image-download-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        for (int worker = 0; worker < workers; worker++) {
+            Path target = directory == null ? null : directory.resolve("worker-" + worker + ".jpg");
+            executor.execute(() -> {
+                for (int i = next.getAndIncrement(); i < urls.size(); i = next.getAndIncrement()) {
+                    try {
+                        Download download = HttpUtils.download(urls.get(i), target);
+                        if (download.getStatusCode() == 200) {
+                            result.record(download.getTotalNanos(), download.getTimeToFirstByteNanos(), download.getBytes());
+                        } else {
+                            result.recordError();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        logger.debug("Falha ao baixar {}: {}", urls.get(i), e.getMessage());
+                        result.recordError();
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+            throw new IllegalStateException("Downloads não terminaram em 10 minutos");
+        }
+        result.finish(System.nanoTime() - start);
+    }
+
+    private String rewrite(String url) {
+        for (Map.Entry<String, String> rewrite : hostRewrites.entrySet()) {
+            if (url.startsWith(rewrite.getKey())) {
+                return rewrite.getValue() + url.substring(rewrite.getKey().length());
+            }
+        }
+        return url;
+    }
+}
@@ -0,0 +1,138 @@
+package com.desafio.act.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultado de um benchmark de download de imagens: vazão em MB/s, tempo até o primeiro byte e
+ * latência por imagem em cada nível de paralelismo.
+ */
+public class ImageDownloadReport {
+
+    private final int urls;
+    private final int distinctUrls;
+    private final String sink;
+    private final List<LevelResult> levels = new ArrayList<>();
+
+    ImageDownloadReport(int urls, int distinctUrls, String sink) {
+        this.urls = urls;
+        this.distinctUrls = distinctUrls;
+        this.sink = sink;
+    }
+
+    void add(LevelResult level) {
+        levels.add(level);
+    }
+
+    /**
+     * @return Resultados por nível de paralelismo, na ordem configurada
+     */
+    public List<LevelResult> getLevels() {
+        return Collections.unmodifiableList(levels);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Download de imagens: %d URLs (%d distintas), destino: %s%n",
+                urls, distinctUrls, sink));
+        report.append(String.format(Locale.ROOT, "%11s %8s %8s %9s %9s %10s %10s %9s %9s %9s %9s%n",
+                "Paralelismo", "Imagens", "Erros %", "MB/s", "Imagens/s", "TTFB p50", "TTFB p99",
+                "p50 ms", "p90 ms", "p99 ms", "max ms"));
+
+        for (LevelResult level : levels) {
+            Histogram latency = level.getLatency();
+            Histogram firstByte = level.getTimeToFirstByte();
+            report.append(String.format(Locale.ROOT, "%11d %8d %8.2f %9.2f %9.1f %10.1f %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    level.getParallelism(), level.getImages(), level.errorRate() * 100, level.megabytesPerSecond(),
+                    level.imagesPerSecond(),
+                    millis(firstByte.getValueAtPercentile(50)), millis(firstByte.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getMaxValue())));
+        }
+        return report.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Estatísticas de um nível de paralelismo. Tempos são registrados em microssegundos.
+     */
+    public static class LevelResult {
+
+        private final int parallelism;
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final Histogram timeToFirstByte = new ConcurrentHistogram(3);
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private volatile long elapsedNanos;
+
+        LevelResult(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        void record(long latencyNanos, long timeToFirstByteNanos, long downloadedBytes) {
+            latency.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            if (timeToFirstByteNanos >= 0) {
+                timeToFirstByte.recordValue(TimeUnit.NANOSECONDS.toMicros(timeToFirstByteNanos));
+            }
+            bytes.add(downloadedBytes);
+        }
+
+        void recordError() {
+            errors.increment();
+        }
+
+        void finish(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public Histogram getLatency() {
+            return latency;
+        }
+
+        public Histogram getTimeToFirstByte() {
+            return timeToFirstByte;
+        }
+
+        /**
+         * @return Imagens baixadas com sucesso
+         */
+        public long getImages() {
+            return latency.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public double errorRate() {
+            long total = getImages() + getErrors();
+            return total == 0 ? 0 : (double) getErrors() / total;
+        }
+
+        /**
+         * @return Bytes de corpo recebidos por segundo de relógio, em MB (10^6 bytes)
+         */
+        public double megabytesPerSecond() {
+            return elapsedNanos == 0 ? 0 : bytes.sum() / 1e6 / (elapsedNanos / 1e9);
+        }
+
+        public double imagesPerSecond() {
+            return elapsedNanos == 0 ? 0 : getImages() / (elapsedNanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.desafio.act.load;
+
+import com.desafio.act.utils.HttpUtils;
+import com.desafio.act.utils.HttpUtils.HttpMethod;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga que dispara requisições pelo mesmo caminho dos testes ({@link HttpUtils#sendRequest}).
+ *
+ * No modelo aberto a latência é medida a partir do instante em que a requisição deveria ter
+ * sido enviada segundo a taxa configurada, e não de quando foi de fato enviada. Assim o tempo
+ * de fila causado por um servidor lento entra na medição (correção de coordinated omission).
+ * Requisições que não terminam até o fim da duração mais a tolerância (ainda na fila ou em andamento)
+ * são contadas como descartadas no relatório, e não somem das estatísticas.
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final LoadProfile profile;
+    private final String[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Set<AtomicBoolean> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param profile Perfil de carga a ser executado
+     */
+    public LoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+
+        Map<String, Integer> mix = profile.getEndpointMix();
+        this.endpoints = mix.keySet().toArray(new String[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += mix.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Executa a carga até o fim da duração configurada.
+     *
+     * @return Relatório com vazão, erros e latências por endpoint
+     * @throws InterruptedException Se a thread for interrompida durante a execução
+     */
+    public LoadReport run() throws InterruptedException {
+        logger.info("Iniciando carga: {}", profile);
+
+        LoadReport report = new LoadReport(profile);
+        long start = System.nanoTime();
+        long end = start + profile.getDuration().toNanos();
+
+        if (profile.getModel() == LoadProfile.Model.CLOSED) {
+            runClosed(report, start, end);
+        } else {
+            runOpen(report, start, end);
+        }
+
+        report.finish(System.nanoTime() - start);
+        logger.info("Carga concluída: {} requisições", report.totalRequests());
+        return report;
+    }
+
+    private void runClosed(LoadReport report, long start, long end) throws InterruptedException {
+        int users = profile.getVirtualUsers();
+        long rampStep = users == 0 ? 0 : profile.getRampUp().toNanos() / users;
+        ExecutorService executor = Executors.newFixedThreadPool(users, namedThreads("load-user-"));
+
+        for (int user = 0; user < users; user++) {
+            long userStart = start + user * rampStep;
+            executor.execute(() -> {
+                parkUntil(userStart);
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    execute(report, nextEndpoint(), System.nanoTime());
+                }
+            });
+        }
+
+        awaitCompletion(executor, end, report);
+    }
+
+    private void runOpen(LoadReport report, long start, long end) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(profile.getMaxConcurrency(), namedThreads("load-open-"));
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedStart = start + offsetNanos(sequence);
+            if (intendedStart >= end) {
+                break;
+            }
+
+            parkUntil(intendedStart);
+            String endpoint = nextEndpoint();
+            executor.execute(() -> execute(report, endpoint, intendedStart));
+        }
+
+        awaitCompletion(executor, end, report);
+    }
+
+    /**
+     * Instante (relativo ao início) da n-ésima chegada. Durante a rampa a taxa cresce
+     * linearmente de zero até a taxa alvo; depois permanece constante.
+     */
+    private long offsetNanos(long sequence) {
+        double rate = profile.getArrivalRatePerSecond();
+        double ramp = profile.getRampUp().toNanos() / 1e9;
+        double rampArrivals = rate * ramp / 2;
+
+        double seconds = sequence < rampArrivals
+                ? Math.sqrt(2 * ramp * sequence / rate)
+                : ramp + (sequence - rampArrivals) / rate;
+        return (long) (seconds * 1e9);
+    }
+
+    private void execute(LoadReport report, String endpoint, long startNanos) {
+        // Quem marcar primeiro, a própria requisição ou o corte ao fim da carga, decide se ela entra nas
+        // latências ou nas descartadas
+        AtomicBoolean settled = new AtomicBoolean();
+        inFlight.add(settled);
+        boolean error;
+        try {
+            // Sem cache nem revalidação: cada chegada mede uma resposta completa do servidor
+            Response response = HttpUtils.sendRequestWithoutCache(HttpMethod.GET, endpoint);
+            error = response.getStatusCode() >= 400;
+        } catch (RuntimeException e) {
+            logger.debug("Falha na requisição para {}: {}", endpoint, e.getMessage());
+            error = true;
+        } finally {
+            inFlight.remove(settled);
+        }
+
+        if (settled.compareAndSet(false, true)) {
+            report.resultFor(endpoint).record(System.nanoTime() - startNanos, error);
+        }
+    }
+
+    private String nextEndpoint() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void awaitCompletion(ExecutorService executor, long end, LoadReport report) throws InterruptedException {
+        executor.shutdown();
+        long grace = Math.max(0, end - System.nanoTime()) + TimeUnit.SECONDS.toNanos(30);
+        if (!executor.awaitTermination(grace, TimeUnit.NANOSECONDS)) {
+            List<Runnable> pending = executor.shutdownNow();
+            long abandoned = inFlight.stream().filter(settled -> settled.compareAndSet(false, true)).count();
+            report.drop(pending.size() + abandoned);
+            logger.warn("{} requisições descartadas ao fim da carga ({} na fila, {} em andamento)",
+                    pending.size() + abandoned, pending.size(), abandoned);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
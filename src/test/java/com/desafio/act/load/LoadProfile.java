@@ -0,0 +1,169 @@
+package com.desafio.act.load;
+
+import com.desafio.act.utils.Config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Descrição imutável de uma carga: modelo (fechado ou aberto), intensidade,
+ * rampa de subida, duração e mistura de endpoints com seus pesos.
+ */
+public class LoadProfile {
+
+    /**
+     * Modelo de carga.
+     * CLOSED: N usuários virtuais em laço, cada um espera a resposta antes da próxima requisição.
+     * OPEN: requisições chegam a uma taxa fixa, independentemente das respostas.
+     */
+    public enum Model {
+        CLOSED, OPEN
+    }
+
+    private final Model model;
+    private final int virtualUsers;
+    private final double arrivalRatePerSecond;
+    private final int maxConcurrency;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final Map<String, Integer> endpointMix;
+
+    /**
+     * @param model                Modelo de carga
+     * @param virtualUsers         Usuários virtuais (modelo fechado)
+     * @param arrivalRatePerSecond Requisições por segundo ao fim da rampa (modelo aberto)
+     * @param maxConcurrency       Requisições simultâneas em voo (modelo aberto)
+     * @param rampUp               Duração da rampa de subida
+     * @param duration             Duração total, incluindo a rampa
+     * @param endpointMix          Endpoint para peso relativo na mistura
+     */
+    public LoadProfile(Model model, int virtualUsers, double arrivalRatePerSecond, int maxConcurrency,
+                       Duration rampUp, Duration duration, Map<String, Integer> endpointMix) {
+        if (endpointMix.isEmpty()) {
+            throw new IllegalArgumentException("A mistura de endpoints não pode ser vazia");
+        }
+        if (rampUp.compareTo(duration) > 0) {
+            throw new IllegalArgumentException("A rampa de subida não pode ser maior que a duração total");
+        }
+        if (model == Model.CLOSED && virtualUsers < 1) {
+            throw new IllegalArgumentException("load.users deve ser maior que zero no modelo fechado: " + virtualUsers);
+        }
+        if (model == Model.OPEN && !(arrivalRatePerSecond > 0)) {
+            throw new IllegalArgumentException("load.rate deve ser maior que zero no modelo aberto: " + arrivalRatePerSecond);
+        }
+        if (model == Model.OPEN && maxConcurrency < 1) {
+            throw new IllegalArgumentException("load.max.concurrency deve ser maior que zero: " + maxConcurrency);
+        }
+
+        this.model = model;
+        this.virtualUsers = virtualUsers;
+        this.arrivalRatePerSecond = arrivalRatePerSecond;
+        this.maxConcurrency = maxConcurrency;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.endpointMix = Collections.unmodifiableMap(new LinkedHashMap<>(endpointMix));
+    }
+
+    /**
+     * Monta o perfil a partir das propriedades load.* do test.properties.
+     * A mistura (load.mix) é uma lista "chave:peso", onde chave é uma propriedade de endpoint
+     * opcionalmente seguida de um sufixo de caminho (ex.: endpoint.base/husky/images:2).
+     *
+     * @return Perfil de carga configurado
+     */
+    public static LoadProfile fromConfig() {
+        return new LoadProfile(
+                Model.valueOf(required("load.model").trim().toUpperCase()),
+                Config.getInt("load.users", 10),
+                Config.getDouble("load.rate", Double.NaN),
+                Config.getInt("load.max.concurrency", 64),
+                Duration.ofSeconds(Config.getInt("load.rampup.seconds", 0)),
+                Duration.ofSeconds(Config.getInt("load.duration.seconds", 30)),
+                parseMix(required("load.mix")));
+    }
+
+    private static String required(String key) {
+        String value = Config.get(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Propriedade obrigatória ausente no test.properties: " + key);
+        }
+        return value;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> endpoints = new LinkedHashMap<>();
+        long total = 0;
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada inválida em load.mix: " + entry);
+            }
+
+            String reference = parts[0].trim();
+            int slash = reference.indexOf('/');
+            String key = slash < 0 ? reference : reference.substring(0, slash);
+            String suffix = slash < 0 ? "" : reference.substring(slash);
+
+            String endpoint = Config.get(key);
+            if (endpoint == null) {
+                throw new IllegalArgumentException("Propriedade de endpoint inexistente em load.mix: " + key);
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Peso inválido em load.mix: " + entry, e);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Peso negativo em load.mix: " + entry);
+            }
+            endpoints.put(endpoint.trim() + suffix, weight);
+            total += weight;
+        }
+
+        if (total == 0 || total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A soma dos pesos de load.mix deve ser positiva e caber em um int: " + mix);
+        }
+        return endpoints;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    public double getArrivalRatePerSecond() {
+        return arrivalRatePerSecond;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<String, Integer> getEndpointMix() {
+        return endpointMix;
+    }
+
+    @Override
+    public String toString() {
+        return model == Model.CLOSED
+                ? String.format("modelo fechado, %d usuários, rampa %ds, duração %ds, mistura %s",
+                        virtualUsers, rampUp.toSeconds(), duration.toSeconds(), endpointMix)
+                : String.format("modelo aberto, %.1f req/s, rampa %ds, duração %ds, mistura %s",
+                        arrivalRatePerSecond, rampUp.toSeconds(), duration.toSeconds(), endpointMix);
+    }
+}
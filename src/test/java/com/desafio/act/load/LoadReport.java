@@ -0,0 +1,126 @@
+package com.desafio.act.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultado de uma execução de carga: vazão, taxa de erro e percentis de latência por endpoint.
+ */
+public class LoadReport {
+
+    private final LoadProfile profile;
+    private final Map<String, EndpointResult> results = new LinkedHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long elapsedNanos;
+
+    LoadReport(LoadProfile profile) {
+        this.profile = profile;
+        profile.getEndpointMix().keySet().forEach(endpoint -> results.put(endpoint, new EndpointResult()));
+    }
+
+    EndpointResult resultFor(String endpoint) {
+        return results.get(endpoint);
+    }
+
+    void drop(long requests) {
+        dropped.add(requests);
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return Resultados por endpoint, na ordem da mistura configurada
+     */
+    public Map<String, EndpointResult> getResults() {
+        return Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * @return Total de requisições executadas em todos os endpoints
+     */
+    public long totalRequests() {
+        return results.values().stream().mapToLong(EndpointResult::getRequests).sum();
+    }
+
+    /**
+     * @return Requisições que não terminaram até o fim da carga (na fila ou em andamento no corte)
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return Fração (0 a 1) de requisições com erro em todos os endpoints; as descartadas contam como erro
+     */
+    public double errorRate() {
+        long total = totalRequests() + getDropped();
+        long errors = results.values().stream().mapToLong(EndpointResult::getErrors).sum() + getDropped();
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    @Override
+    public String toString() {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Carga: %s%nTempo decorrido: %.1fs, %d requisições (%.1f req/s), %d descartadas, "
+                        + "%.2f%% de erros%n",
+                profile, seconds, totalRequests(), totalRequests() / seconds, getDropped(), errorRate() * 100));
+        report.append(String.format("%-40s %10s %10s %8s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requisições", "Req/s", "Erros %", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms"));
+
+        results.forEach((endpoint, result) -> {
+            Histogram histogram = result.getHistogram();
+            report.append(String.format("%-40s %10d %10.1f %8.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint, result.getRequests(), result.getRequests() / seconds, result.errorRate() * 100,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(95)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue())));
+        });
+
+        return report.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Estatísticas de um endpoint. Latências são registradas em microssegundos.
+     */
+    public static class EndpointResult {
+
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyNanos, boolean error) {
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public long getRequests() {
+            return histogram.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public double errorRate() {
+            return getRequests() == 0 ? 0 : (double) getErrors() / getRequests();
+        }
+    }
+}
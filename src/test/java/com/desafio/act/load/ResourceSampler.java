@@ -0,0 +1,233 @@
+package com.desafio.act.load;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Amostragem periódica dos recursos do processo de teste, para detectar vazamentos lentos no cliente HTTP:
+ * heap ocupado logo após um GC completo, descritores de arquivo abertos, threads vivas e sockets abertos
+ * (conexões do pool e eventuais conexões esquecidas, lidos de /proc/self/fd).
+ * Recursos indisponíveis na plataforma são registrados como -1 e ficam fora da análise.
+ */
+public class ResourceSampler {
+
+    /**
+     * Recurso amostrado, com a unidade usada na série temporal e no cálculo da inclinação.
+     */
+    public enum Resource {
+        HEAP_MB("heap após GC", "MB", sample -> sample.getHeapAfterGcBytes() < 0 ? -1 : sample.getHeapAfterGcBytes() / (1024.0 * 1024)),
+        FILE_DESCRIPTORS("descritores de arquivo", "fds", Sample::getOpenFileDescriptors),
+        THREADS("threads", "threads", Sample::getThreads),
+        SOCKETS("sockets", "sockets", Sample::getSockets);
+
+        private final String label;
+        private final String unit;
+        private final ToDoubleFunction<Sample> value;
+
+        Resource(String label, String unit, ToDoubleFunction<Sample> value) {
+            this.label = label;
+            this.unit = unit;
+            this.value = value;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        /**
+         * @param sample Amostra
+         * @return Valor do recurso na amostra, ou negativo se indisponível
+         */
+        public double valueOf(Sample sample) {
+            return value.applyAsDouble(sample);
+        }
+    }
+
+    /**
+     * Uma leitura dos recursos em um instante da execução.
+     */
+    public static final class Sample {
+
+        private final double elapsedSeconds;
+        private final int iteration;
+        private final long heapAfterGcBytes;
+        private final long openFileDescriptors;
+        private final int threads;
+        private final long sockets;
+
+        Sample(double elapsedSeconds, int iteration, long heapAfterGcBytes, long openFileDescriptors,
+               int threads, long sockets) {
+            this.elapsedSeconds = elapsedSeconds;
+            this.iteration = iteration;
+            this.heapAfterGcBytes = heapAfterGcBytes;
+            this.openFileDescriptors = openFileDescriptors;
+            this.threads = threads;
+            this.sockets = sockets;
+        }
+
+        public double getElapsedSeconds() {
+            return elapsedSeconds;
+        }
+
+        public int getIteration() {
+            return iteration;
+        }
+
+        public long getHeapAfterGcBytes() {
+            return heapAfterGcBytes;
+        }
+
+        public long getOpenFileDescriptors() {
+            return openFileDescriptors;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public long getSockets() {
+            return sockets;
+        }
+    }
+
+    private static final Path PROCESS_FDS = Paths.get("/proc/self/fd");
+
+    private final long startNanos = System.nanoTime();
+    private final List<Sample> samples = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Força um GC completo e registra uma amostra dos recursos.
+     *
+     * @param iteration Iteração em andamento no momento da amostra
+     * @return Amostra registrada
+     */
+    public Sample sample(int iteration) {
+        System.gc();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        Sample sample = new Sample(
+                (System.nanoTime() - startNanos) / 1e9,
+                iteration,
+                heap,
+                openFileDescriptors(),
+                ManagementFactory.getThreadMXBean().getThreadCount(),
+                openSockets());
+        samples.add(sample);
+        return sample;
+    }
+
+    /**
+     * @return Amostras registradas, em ordem cronológica
+     */
+    public List<Sample> getSamples() {
+        synchronized (samples) {
+            return List.copyOf(samples);
+        }
+    }
+
+    /**
+     * Inclinação do recurso ao longo do tempo, ignorando o aquecimento. Usa o estimador de Theil-Sen
+     * (mediana das inclinações entre todos os pares de amostras), que não se deixa levar por picos
+     * isolados, como as threads transitórias de uma amostra tirada no meio de uma iteração.
+     *
+     * @param resource      Recurso analisado
+     * @param warmupSeconds Amostras anteriores a este instante são descartadas
+     * @return Crescimento por minuto na unidade do recurso, ou NaN com menos de 3 amostras válidas
+     */
+    public double slopePerMinute(Resource resource, double warmupSeconds) {
+        List<double[]> points = new ArrayList<>();
+        for (Sample sample : getSamples()) {
+            double value = resource.valueOf(sample);
+            if (sample.getElapsedSeconds() >= warmupSeconds && value >= 0) {
+                points.add(new double[]{sample.getElapsedSeconds() / 60, value});
+            }
+        }
+        if (points.size() < 3) {
+            return Double.NaN;
+        }
+
+        double[] slopes = new double[points.size() * (points.size() - 1) / 2];
+        int count = 0;
+        for (int i = 0; i < points.size(); i++) {
+            for (int j = i + 1; j < points.size(); j++) {
+                double minutes = points.get(j)[0] - points.get(i)[0];
+                if (minutes > 0) {
+                    slopes[count++] = (points.get(j)[1] - points.get(i)[1]) / minutes;
+                }
+            }
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        Arrays.sort(slopes, 0, count);
+        return count % 2 == 1 ? slopes[count / 2] : (slopes[count / 2 - 1] + slopes[count / 2]) / 2;
+    }
+
+    /**
+     * Grava a série temporal em CSV para análise externa.
+     *
+     * @param file Arquivo de destino
+     * @throws IOException Se não for possível gravar o arquivo
+     */
+    public void writeCsv(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("elapsed_seconds,iteration,heap_after_gc_bytes,open_fds,threads,sockets\n");
+            for (Sample sample : getSamples()) {
+                writer.write(String.format(Locale.ROOT, "%.1f,%d,%d,%d,%d,%d%n",
+                        sample.getElapsedSeconds(), sample.getIteration(), sample.getHeapAfterGcBytes(),
+                        sample.getOpenFileDescriptors(), sample.getThreads(), sample.getSockets()));
+            }
+        }
+    }
+
+    private static long openFileDescriptors() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.UnixOperatingSystemMXBean) {
+            return ((com.sun.management.UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount();
+        }
+        return -1;
+    }
+
+    private static long openSockets() {
+        if (!Files.isDirectory(PROCESS_FDS)) {
+            return -1;
+        }
+
+        long sockets = 0;
+        try (DirectoryStream<Path> fds = Files.newDirectoryStream(PROCESS_FDS)) {
+            for (Path fd : fds) {
+                try {
+                    if (Files.readSymbolicLink(fd).toString().startsWith("socket:")) {
+                        sockets++;
+                    }
+                } catch (IOException e) {
+                    // Descritor fechado entre a listagem e a leitura
+                }
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return sockets;
+    }
+}
@@ -0,0 +1,120 @@
+package com.desafio.act.load;
+
+import com.desafio.act.load.ResourceSampler.Resource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resultado de uma execução de resistência: iterações, testes e falhas, e a inclinação de cada recurso
+ * amostrado comparada ao limite configurado.
+ */
+public class SoakReport {
+
+    private final ResourceSampler sampler;
+    private final Duration warmup;
+    private final Map<Resource, Double> maxSlopes;
+    private int iterations;
+    private int overruns;
+    private long testsStarted;
+    private long testsFailed;
+    private long elapsedNanos;
+
+    SoakReport(ResourceSampler sampler, Duration warmup, Map<Resource, Double> maxSlopes) {
+        this.sampler = sampler;
+        this.warmup = warmup;
+        this.maxSlopes = maxSlopes;
+    }
+
+    void recordIteration(long started, long failed) {
+        iterations++;
+        testsStarted += started;
+        testsFailed += failed;
+    }
+
+    void recordOverrun() {
+        overruns++;
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return Amostrador com a série temporal dos recursos
+     */
+    public ResourceSampler getSampler() {
+        return sampler;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return Fração (0 a 1) de testes com falha em todas as iterações
+     */
+    public double failureRate() {
+        return testsStarted == 0 ? 0 : (double) testsFailed / testsStarted;
+    }
+
+    /**
+     * @param resource Recurso analisado
+     * @return Crescimento por minuto após o aquecimento, ou NaN sem amostras suficientes
+     */
+    public double slope(Resource resource) {
+        return sampler.slopePerMinute(resource, warmup.toSeconds());
+    }
+
+    /**
+     * @return Recursos sem amostras suficientes após o aquecimento para estimar a inclinação
+     */
+    public List<Resource> unmeasured() {
+        List<Resource> unmeasured = new ArrayList<>();
+        maxSlopes.keySet().stream().filter(resource -> Double.isNaN(slope(resource))).forEach(unmeasured::add);
+        return unmeasured;
+    }
+
+    /**
+     * @return Descrição de cada recurso cuja inclinação excedeu o limite
+     */
+    public List<String> violations() {
+        List<String> violations = new ArrayList<>();
+        maxSlopes.forEach((resource, max) -> {
+            double slope = slope(resource);
+            if (slope > max) {
+                violations.add(String.format(Locale.ROOT, "%s cresce %.3f %s/min (limite %.3f)",
+                        resource.getLabel(), slope, resource.getUnit(), max));
+            }
+        });
+        return violations;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT,
+                "Soak: %.1f min, %d iterações (%d atrasadas), %d testes, %d falhas (%.2f%%), %d amostras%n",
+                elapsedNanos / 6e10, iterations, overruns, testsStarted, testsFailed, failureRate() * 100,
+                sampler.getSamples().size()));
+
+        List<ResourceSampler.Sample> samples = sampler.getSamples();
+        ResourceSampler.Sample first = samples.isEmpty() ? null : samples.get(0);
+        ResourceSampler.Sample last = samples.isEmpty() ? null : samples.get(samples.size() - 1);
+        maxSlopes.forEach((resource, max) -> {
+            double slope = slope(resource);
+            report.append(String.format(Locale.ROOT, "  %-24s %10.2f -> %10.2f %-7s inclinação %s (limite %.3f/min)%s%n",
+                    resource.getLabel(),
+                    first == null ? Double.NaN : resource.valueOf(first),
+                    last == null ? Double.NaN : resource.valueOf(last),
+                    resource.getUnit(),
+                    Double.isNaN(slope) ? "indisponível" : String.format(Locale.ROOT, "%+.3f/min", slope),
+                    max,
+                    slope > max ? "  EXCEDIDO" : ""));
+        });
+        return report.toString();
+    }
+}
@@ -0,0 +1,166 @@
+package com.desafio.act.load;
+
+import com.desafio.act.load.ResourceSampler.Resource;
+import com.desafio.act.utils.Config;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Execução de resistência (soak): repete os cenários das classes DogApi*Test em um Launcher do JUnit
+ * aninhado, a um ritmo constante de iterações por minuto, enquanto o {@link ResourceSampler} amostra os
+ * recursos do processo em intervalos fixos.
+ *
+ * O Launcher aninhado não registra os listeners do ServiceLoader (relatório da suite, histórico de
+ * duração, Allure), que continuam valendo só para a execução externa.
+ */
+public class SoakRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SoakRunner.class);
+
+    private final Duration duration;
+    private final double iterationsPerMinute;
+    private final Duration sampleInterval;
+    private final Duration warmup;
+    private final String classNamePattern;
+    private final String[] excludedTags;
+    private final Map<Resource, Double> maxSlopes;
+
+    /**
+     * @param duration            Duração total da execução
+     * @param iterationsPerMinute Iterações da suite por minuto
+     * @param sampleInterval      Intervalo entre amostras de recursos
+     * @param warmup              Período inicial ignorado no cálculo das inclinações
+     * @param classNamePattern    Expressão regular das classes de teste repetidas
+     * @param excludedTags        Tags excluídas das iterações
+     * @param maxSlopes           Crescimento máximo por minuto aceito para cada recurso
+     */
+    public SoakRunner(Duration duration, double iterationsPerMinute, Duration sampleInterval, Duration warmup,
+                      String classNamePattern, String[] excludedTags, Map<Resource, Double> maxSlopes) {
+        if (iterationsPerMinute <= 0) {
+            throw new IllegalArgumentException("soak.iterations.per.minute deve ser maior que zero");
+        }
+        if (warmup.compareTo(duration) >= 0) {
+            throw new IllegalArgumentException("O aquecimento não pode ser maior que a duração total");
+        }
+
+        this.duration = duration;
+        this.iterationsPerMinute = iterationsPerMinute;
+        this.sampleInterval = sampleInterval;
+        this.warmup = warmup;
+        this.classNamePattern = classNamePattern;
+        this.excludedTags = excludedTags;
+        this.maxSlopes = new EnumMap<>(maxSlopes);
+    }
+
+    /**
+     * Monta a execução a partir das propriedades soak.* do test.properties.
+     *
+     * @return Execução de resistência configurada
+     */
+    public static SoakRunner fromConfig() {
+        Map<Resource, Double> maxSlopes = new EnumMap<>(Resource.class);
+        maxSlopes.put(Resource.HEAP_MB, Config.getDouble("soak.max.slope.heap.mb", 1.0));
+        maxSlopes.put(Resource.FILE_DESCRIPTORS, Config.getDouble("soak.max.slope.fds", 0.5));
+        maxSlopes.put(Resource.THREADS, Config.getDouble("soak.max.slope.threads", 0.2));
+        maxSlopes.put(Resource.SOCKETS, Config.getDouble("soak.max.slope.sockets", 0.5));
+
+        return new SoakRunner(
+                Duration.ofMinutes(Config.getInt("soak.duration.minutes", 30)),
+                Config.getDouble("soak.iterations.per.minute", 2),
+                Duration.ofSeconds(Config.getInt("soak.sample.seconds", 15)),
+                Duration.ofSeconds(Config.getInt("soak.warmup.seconds", 60)),
+                Config.get("soak.classes").trim(),
+                Arrays.stream(Config.get("soak.exclude.tags").split(","))
+                        .map(String::trim)
+                        .filter(tag -> !tag.isEmpty())
+                        .toArray(String[]::new),
+                maxSlopes);
+    }
+
+    /**
+     * Executa as iterações até o fim da duração configurada. Uma iteração que ultrapassa seu intervalo
+     * atrasa a seguinte, que começa imediatamente, e é contada como atraso no relatório.
+     *
+     * @return Relatório com contagem de testes, série de recursos e inclinações
+     */
+    public SoakReport run() {
+        logger.info("Iniciando soak: {} min a {} iterações/min, amostras a cada {} s",
+                duration.toMinutes(), iterationsPerMinute, sampleInterval.toSeconds());
+
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .build());
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(DiscoverySelectors.selectPackage("com.desafio.act.tests"))
+                .filters(ClassNameFilter.includeClassNamePatterns(classNamePattern),
+                        TagFilter.excludeTags(excludedTags))
+                .build();
+
+        ResourceSampler sampler = new ResourceSampler();
+        SoakReport report = new SoakReport(sampler, warmup, maxSlopes);
+        AtomicInteger iteration = new AtomicInteger();
+
+        ScheduledExecutorService sampling = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampling.scheduleAtFixedRate(() -> sampler.sample(iteration.get()),
+                0, sampleInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        long intervalNanos = (long) (TimeUnit.MINUTES.toNanos(1) / iterationsPerMinute);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try {
+            for (long next = start; next < end; next += intervalNanos) {
+                long now;
+                while ((now = System.nanoTime()) < next) {
+                    LockSupport.parkNanos(next - now);
+                }
+                if (now >= end) {
+                    break;
+                }
+                if (now - next > intervalNanos) {
+                    report.recordOverrun();
+                }
+
+                SummaryGeneratingListener summary = new SummaryGeneratingListener();
+                launcher.execute(request, summary);
+                TestExecutionSummary result = summary.getSummary();
+                report.recordIteration(result.getTestsStartedCount(), result.getTotalFailureCount());
+                result.getFailures().stream().findFirst().ifPresent(failure ->
+                        logger.warn("Iteração {} com {} falhas; primeira: {}: {}", iteration.get() + 1,
+                                result.getTotalFailureCount(), failure.getTestIdentifier().getDisplayName(),
+                                failure.getException().getMessage()));
+                iteration.incrementAndGet();
+            }
+        } finally {
+            sampling.shutdownNow();
+        }
+
+        sampler.sample(iteration.get());
+        report.finish(System.nanoTime() - start);
+        logger.info("Soak concluído: {} iterações", iteration.get());
+        return report;
+    }
+}
@@ -0,0 +1,376 @@
+package com.desafio.act.stub;
+
+import com.desafio.act.utils.Config;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Servidor HTTP em processo que substitui a Dog API em execuções offline e de carga.
+ * Implementa /breeds/list/all, /breeds/image/random e /breed/{breed}[/{sub}]/images,
+ * além das respostas 404/405 verificadas pelos testes. A lista de raças e as listas de imagens
+ * trazem ETag e Last-Modified, respondem 304 a requisições condicionais e são comprimidas em gzip ou
+ * deflate conforme o Accept-Encoding.
+ *
+ * Usa o servidor NIO do JDK com um pool de threads fixo e corpos pré-serializados
+ * pelo {@link DogCatalog}, para que o gargalo medido seja o framework e não o servidor.
+ */
+public class DogApiStubServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DogApiStubServer.class);
+    private static final String CONTEXT_PATH = "/api";
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final int COMPRESSION_MIN_BYTES = 256;
+
+    private static DogApiStubServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final DogCatalog catalog;
+    // Corpos do catálogo são instâncias fixas: o mapa usa a identidade do array como chave
+    private final Map<byte[], String> etags = new ConcurrentHashMap<>();
+    private final Map<byte[], byte[]> gzipBodies = new ConcurrentHashMap<>();
+    private final Map<byte[], byte[]> deflateBodies = new ConcurrentHashMap<>();
+    private final ZonedDateTime lastModified = ZonedDateTime.now(ZoneOffset.UTC).withNano(0);
+
+    private DogApiStubServer(HttpServer server, ExecutorService executor, DogCatalog catalog) {
+        this.server = server;
+        this.executor = executor;
+        this.catalog = catalog;
+    }
+
+    /**
+     * Inicia o servidor compartilhado caso a propriedade stub.server.enabled esteja ativa
+     * (perfil Maven "stub"). Chamadas repetidas reutilizam a mesma instância.
+     *
+     * @return Servidor em execução, ou null se o modo substituto estiver desativado
+     */
+    public static synchronized DogApiStubServer startIfEnabled() {
+        if (!Config.getBoolean("stub.server.enabled", false)) {
+            return null;
+        }
+
+        if (instance == null) {
+            try {
+                instance = start(
+                        Config.getInt("stub.server.port", 0),
+                        Config.get("stub.server.catalog"),
+                        Config.getInt("stub.server.threads", Runtime.getRuntime().availableProcessors() * 2));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao iniciar o servidor substituto da Dog API", e);
+            }
+
+            DogApiStubServer started = instance;
+            Runtime.getRuntime().addShutdownHook(new Thread(started::stop, "dog-api-stub-shutdown"));
+        }
+
+        return instance;
+    }
+
+    /**
+     * Inicia uma nova instância do servidor.
+     *
+     * @param port        Porta local (0 para uma porta livre qualquer)
+     * @param catalogPath Caminho do catálogo de raças no classpath
+     * @param threads     Quantidade de threads que atendem as requisições
+     * @return Servidor em execução
+     * @throws IOException Se houver erro ao carregar o catálogo ou abrir a porta
+     */
+    public static DogApiStubServer start(int port, String catalogPath, int threads) throws IOException {
+        DogCatalog catalog = DogCatalog.load(catalogPath);
+
+        // Sem TCP_NODELAY, cabeçalho e corpo escritos separadamente esperam o ACK atrasado (~40ms)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        HttpServer server = HttpServer.create(
+                new InetSocketAddress("127.0.0.1", port),
+                Config.getInt("stub.server.backlog", 1024));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "dog-api-stub-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        DogApiStubServer stub = new DogApiStubServer(server, executor, catalog);
+        server.createContext(CONTEXT_PATH, stub::handle);
+        server.setExecutor(executor);
+        server.start();
+
+        logger.info("Servidor substituto da Dog API iniciado em {} com {} threads", stub.getBaseUrl(), threads);
+        return stub;
+    }
+
+    /**
+     * @return URL base equivalente a base.url (ex.: http://127.0.0.1:54321/api)
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + CONTEXT_PATH;
+    }
+
+    /**
+     * @return Catálogo servido por esta instância
+     */
+    public DogCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Encerra o servidor e o pool de threads.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Servidor substituto da Dog API encerrado");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            drain(exchange.getRequestBody());
+
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath().substring(CONTEXT_PATH.length()).trim();
+            boolean readOnly = "GET".equals(method) || "HEAD".equals(method);
+
+            switch (path) {
+                case "/breeds/list/all":
+                    if (readOnly) {
+                        sendCacheable(exchange, catalog.breedsListBody());
+                    } else {
+                        sendMethodNotAllowed(exchange, method, path);
+                    }
+                    return;
+
+                case "/breeds/image/random":
+                    if (readOnly) {
+                        send(exchange, 200, catalog.randomImageBody(ThreadLocalRandom.current().nextInt()));
+                    } else {
+                        sendMethodNotAllowed(exchange, method, path);
+                    }
+                    return;
+
+                default:
+                    handleBreedImages(exchange, method, path, readOnly);
+            }
+        }
+    }
+
+    private void handleBreedImages(HttpExchange exchange, String method, String path, boolean readOnly)
+            throws IOException {
+        String[] segments = path.split("/", -1);
+
+        // Formatos aceitos: /breed/{breed}/images e /breed/{breed}/{sub}/images
+        boolean isImagesRoute = segments.length >= 4 && segments.length <= 5
+                && segments[1].equals("breed")
+                && segments[segments.length - 1].equals("images");
+
+        if (!isImagesRoute) {
+            sendError(exchange, 404, "No route found for \"" + method + " " + path + "\"");
+            return;
+        }
+
+        if (!readOnly) {
+            sendMethodNotAllowed(exchange, method, path);
+            return;
+        }
+
+        String breed = segments[2];
+        String subBreed = segments.length == 5 ? segments[3] : null;
+        byte[] body = breed.isEmpty() ? null : catalog.imagesBody(breed, subBreed);
+
+        if (body == null) {
+            sendError(exchange, 404, subBreed == null
+                    ? "Breed not found (master breed does not exist)"
+                    : "Breed not found (sub breed does not exist)");
+            return;
+        }
+
+        sendCacheable(exchange, body);
+    }
+
+    private void sendCacheable(HttpExchange exchange, byte[] body) throws IOException {
+        String encoding = negotiateEncoding(exchange.getRequestHeaders(), body);
+        String etag = etags.computeIfAbsent(body, DogApiStubServer::etag);
+        if (encoding != null) {
+            // Cada representação tem seu próprio ETag forte
+            etag = etag.substring(0, etag.length() - 1) + "-" + encoding + "\"";
+        }
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Vary", "Accept-Encoding");
+        headers.set("ETag", etag);
+        headers.set("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified));
+        headers.set("Cache-Control", "no-cache");
+
+        if (notModified(exchange.getRequestHeaders(), etag)) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        if (encoding != null) {
+            headers.set("Content-Encoding", encoding);
+            body = "gzip".equals(encoding)
+                    ? gzipBodies.computeIfAbsent(body, DogApiStubServer::gzip)
+                    : deflateBodies.computeIfAbsent(body, DogApiStubServer::deflate);
+        }
+        send(exchange, 200, body);
+    }
+
+    private static String negotiateEncoding(Headers request, byte[] body) {
+        String acceptEncoding = request.getFirst("Accept-Encoding");
+        if (acceptEncoding == null || body.length < COMPRESSION_MIN_BYTES) {
+            return null;
+        }
+
+        boolean deflate = false;
+        for (String offer : acceptEncoding.split(",")) {
+            String[] parts = offer.trim().split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean rejected = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            if (rejected) {
+                continue;
+            }
+            if (name.equals("gzip")) {
+                return "gzip";
+            }
+            deflate |= name.equals("deflate");
+        }
+        return deflate ? "deflate" : null;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (OutputStream out = new DeflaterOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private boolean notModified(Headers request, String etag) {
+        String ifNoneMatch = request.getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            // If-None-Match tem precedência sobre If-Modified-Since (RFC 9110, 13.2.2)
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String ifModifiedSince = request.getFirst("If-Modified-Since");
+        if (ifModifiedSince == null) {
+            return false;
+        }
+        try {
+            return !lastModified.isAfter(ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME));
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private void sendMethodNotAllowed(HttpExchange exchange, String method, String path) throws IOException {
+        exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+        sendError(exchange, 405, "No route found for \"" + method + " " + path
+                + "\": Method Not Allowed (Allow: GET, HEAD)");
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        String body = "{\"status\":\"error\",\"message\":" + JSONObject.quote(message) + ",\"code\":" + status + "}";
+        send(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", CONTENT_TYPE_JSON);
+
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            headers.set("Content-Length", String.valueOf(body.length));
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static void drain(InputStream requestBody) throws IOException {
+        try (requestBody) {
+            requestBody.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * Permite executar o servidor de forma isolada, por exemplo para testes de carga
+     * disparados de outra JVM ou ferramenta.
+     *
+     * @param args Porta opcional (padrão: 8089)
+     * @throws Exception Se houver erro ao iniciar o servidor
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        DogApiStubServer stub = start(port, Config.get("stub.server.catalog"),
+                Config.getInt("stub.server.threads", Runtime.getRuntime().availableProcessors() * 2));
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::stop, "dog-api-stub-shutdown"));
+        Thread.currentThread().join();
+    }
+}
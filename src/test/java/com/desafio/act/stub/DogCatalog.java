@@ -0,0 +1,170 @@
+package com.desafio.act.stub;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Catálogo de raças usado pelo servidor substituto da Dog API.
+ * Todos os corpos de resposta são serializados uma única vez na carga do catálogo,
+ * de forma que o servidor apenas copia bytes prontos para o socket.
+ */
+public class DogCatalog {
+
+    private final Map<String, List<String>> breeds;
+    private final String imagesHost;
+    private final byte[] breedsListBody;
+    private final Map<String, byte[]> imagesBodies = new HashMap<>();
+    private final List<String> allImages = new ArrayList<>();
+    private final byte[][] randomImageBodies;
+
+    private DogCatalog(Map<String, List<String>> breeds, String imagesHost, int imagesPerDirectory) {
+        this.breeds = breeds;
+        this.imagesHost = imagesHost;
+        this.breedsListBody = successBody(breedsToJson(breeds));
+
+        for (Map.Entry<String, List<String>> entry : breeds.entrySet()) {
+            String breed = entry.getKey();
+            List<String> masterImages = new ArrayList<>();
+
+            if (entry.getValue().isEmpty()) {
+                masterImages.addAll(imagesFor(imagesHost, breed, imagesPerDirectory));
+            }
+
+            for (String subBreed : entry.getValue()) {
+                List<String> subImages = imagesFor(imagesHost, breed + "-" + subBreed, imagesPerDirectory);
+                imagesBodies.put(breed + "/" + subBreed, successBody(listToJson(subImages)));
+                masterImages.addAll(subImages);
+            }
+
+            imagesBodies.put(breed, successBody(listToJson(masterImages)));
+            allImages.addAll(masterImages);
+        }
+
+        randomImageBodies = new byte[allImages.size()][];
+        for (int i = 0; i < allImages.size(); i++) {
+            randomImageBodies[i] = successBody(JSONObject.quote(allImages.get(i)));
+        }
+    }
+
+    /**
+     * Carrega o catálogo a partir de um arquivo JSON do classpath.
+     *
+     * @param resourcePath Caminho do catálogo no classpath (ex.: stub/dog-catalog.json)
+     * @return Catálogo com os corpos de resposta pré-serializados
+     * @throws IOException Se houver erro ao ler o arquivo
+     */
+    public static DogCatalog load(String resourcePath) throws IOException {
+        try (InputStream inputStream = DogCatalog.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                throw new IOException("Catálogo do servidor substituto não encontrado: " + resourcePath);
+            }
+
+            JSONObject json = new JSONObject(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            JSONObject racas = json.getJSONObject("racas");
+
+            Map<String, List<String>> breeds = new TreeMap<>();
+            for (String breed : racas.keySet()) {
+                JSONArray subBreeds = racas.getJSONArray(breed);
+                List<String> list = new ArrayList<>();
+                for (int i = 0; i < subBreeds.length(); i++) {
+                    list.add(subBreeds.getString(i));
+                }
+                breeds.put(breed, Collections.unmodifiableList(list));
+            }
+
+            return new DogCatalog(Collections.unmodifiableMap(breeds),
+                    json.getString("imagens_host"),
+                    json.getInt("imagens_por_diretorio"));
+        }
+    }
+
+    /**
+     * @return Mapa imutável de raça para sub-raças, em ordem alfabética
+     */
+    public Map<String, List<String>> getBreeds() {
+        return breeds;
+    }
+
+    /**
+     * @return Host das imagens do catálogo (ex.: https://images.dog.ceo)
+     */
+    public String getImagesHost() {
+        return imagesHost;
+    }
+
+    /**
+     * @return Lista imutável com todas as URLs de imagem do catálogo
+     */
+    public List<String> getAllImages() {
+        return Collections.unmodifiableList(allImages);
+    }
+
+    /**
+     * @return Corpo pré-serializado de /breeds/list/all
+     */
+    public byte[] breedsListBody() {
+        return breedsListBody;
+    }
+
+    /**
+     * @param breed    Raça principal
+     * @param subBreed Sub-raça, ou null para a raça principal
+     * @return Corpo pré-serializado de /breed/{breed}[/{sub}]/images, ou null se a raça não existir
+     */
+    public byte[] imagesBody(String breed, String subBreed) {
+        return imagesBodies.get(subBreed == null ? breed : breed + "/" + subBreed);
+    }
+
+    /**
+     * @param index Índice arbitrário (reduzido módulo a quantidade de imagens)
+     * @return Corpo pré-serializado de /breeds/image/random
+     */
+    public byte[] randomImageBody(int index) {
+        return randomImageBodies[Math.floorMod(index, randomImageBodies.length)];
+    }
+
+    private static List<String> imagesFor(String host, String directory, int count) {
+        List<String> images = new ArrayList<>(count);
+        String prefix = directory.replace("-", "_");
+        for (int i = 1; i <= count; i++) {
+            images.add(String.format("%s/breeds/%s/%s_%04d.jpg", host, directory, prefix, i));
+        }
+        return images;
+    }
+
+    private static String breedsToJson(Map<String, List<String>> breeds) {
+        StringBuilder json = new StringBuilder("{");
+        for (Map.Entry<String, List<String>> entry : breeds.entrySet()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(JSONObject.quote(entry.getKey())).append(':').append(listToJson(entry.getValue()));
+        }
+        return json.append('}').toString();
+    }
+
+    private static String listToJson(List<String> values) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(JSONObject.quote(values.get(i)));
+        }
+        return json.append(']').toString();
+    }
+
+    private static byte[] successBody(String messageJson) {
+        return ("{\"message\":" + messageJson + ",\"status\":\"success\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,452 @@
+package com.desafio.act.stub;
+
+import com.desafio.act.utils.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Servidor HTTP/1.1 em processo que substitui o host de imagens (images.dog.ceo) em execuções offline.
+ * Responde GET, HEAD e GET com Range para todas as imagens do {@link DogCatalog} e 404 para qualquer
+ * outro caminho. Cada imagem do catálogo é servida a partir de um dos arquivos JPEG do diretório
+ * stub.image.dir (sempre o mesmo arquivo para a mesma URL), copiado do disco para o socket com
+ * FileChannel.transferTo, sem passar o conteúdo pela heap (sendfile no Linux).
+ *
+ * Cada conexão keep-alive ocupa uma thread enquanto estiver aberta; conexões ociosas por mais de
+ * 30 segundos são encerradas.
+ */
+public class ImageHostStubServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageHostStubServer.class);
+    private static final String CONTENT_TYPE_JPEG = "image/jpeg";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+    private static final int IDLE_TIMEOUT_MS = 30000;
+    private static final int MAX_HEAD_BYTES = 8192;
+
+    private static ImageHostStubServer instance;
+
+    private final ServerSocketChannel server;
+    private final ExecutorService executor;
+    private final DogCatalog catalog;
+    private final Map<String, FileChannel> images = new HashMap<>();
+    private final List<FileChannel> files = new ArrayList<>();
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    private ImageHostStubServer(ServerSocketChannel server, ExecutorService executor, DogCatalog catalog,
+                                List<Path> imageFiles) throws IOException {
+        this.server = server;
+        this.executor = executor;
+        this.catalog = catalog;
+
+        for (Path file : imageFiles) {
+            files.add(FileChannel.open(file, StandardOpenOption.READ));
+        }
+
+        String host = catalog.getImagesHost();
+        for (String url : catalog.getAllImages()) {
+            String path = url.substring(host.length());
+            images.put(path, files.get(Math.floorMod(path.hashCode(), files.size())));
+        }
+    }
+
+    /**
+     * Inicia o servidor compartilhado caso a propriedade stub.server.enabled esteja ativa
+     * (perfil Maven "stub"). Chamadas repetidas reutilizam a mesma instância.
+     *
+     * @return Servidor em execução, ou null se o modo substituto estiver desativado
+     */
+    public static synchronized ImageHostStubServer startIfEnabled() {
+        if (!Config.getBoolean("stub.server.enabled", false)) {
+            return null;
+        }
+
+        if (instance == null) {
+            try {
+                int[] sizes = Arrays.stream(Config.get("stub.image.sizes.bytes").split(","))
+                        .map(String::trim)
+                        .mapToInt(Integer::parseInt)
+                        .toArray();
+                instance = start(
+                        Config.getInt("stub.image.port", 0),
+                        DogCatalog.load(Config.get("stub.server.catalog")),
+                        prepareImages(Paths.get(Config.get("stub.image.dir")), sizes));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao iniciar o servidor substituto de imagens", e);
+            }
+
+            ImageHostStubServer started = instance;
+            Runtime.getRuntime().addShutdownHook(new Thread(started::stop, "image-host-stub-shutdown"));
+        }
+
+        return instance;
+    }
+
+    /**
+     * Garante um JPEG sintético de cada tamanho no diretório e devolve todos os JPEG ali presentes,
+     * incluindo imagens reais colocadas manualmente.
+     *
+     * @param directory Diretório das imagens
+     * @param sizes     Tamanhos em bytes das imagens sintéticas
+     * @return Arquivos JPEG do diretório, em ordem alfabética
+     * @throws IOException Se houver erro ao criar ou listar os arquivos
+     */
+    public static List<Path> prepareImages(Path directory, int... sizes) throws IOException {
+        Files.createDirectories(directory);
+        for (int size : sizes) {
+            Path file = directory.resolve("synthetic-" + size + ".jpg");
+            byte[] image = syntheticJpeg(size);
+            if (!Files.exists(file) || Files.size(file) != image.length) {
+                Files.write(file, image);
+            }
+        }
+
+        List<Path> images = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*.{jpg,jpeg}")) {
+            entries.forEach(images::add);
+        }
+        if (images.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma imagem JPEG em " + directory);
+        }
+        images.sort(null);
+        return images;
+    }
+
+    /**
+     * Inicia uma nova instância do servidor.
+     *
+     * @param port       Porta local (0 para uma porta livre qualquer)
+     * @param catalog    Catálogo cujas imagens serão servidas
+     * @param imageFiles Arquivos distribuídos entre as URLs do catálogo
+     * @return Servidor em execução
+     * @throws IOException Se houver erro ao abrir a porta ou os arquivos
+     */
+    public static ImageHostStubServer start(int port, DogCatalog catalog, List<Path> imageFiles) throws IOException {
+        if (imageFiles.isEmpty()) {
+            throw new IllegalArgumentException("O servidor substituto de imagens precisa de pelo menos um arquivo");
+        }
+        ServerSocketChannel server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress("127.0.0.1", port), Config.getInt("stub.server.backlog", 1024));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "image-host-stub-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ImageHostStubServer stub = new ImageHostStubServer(server, executor, catalog, imageFiles);
+        Thread acceptor = new Thread(stub::accept, "image-host-stub-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+
+        logger.info("Servidor substituto de imagens iniciado em {} com {} imagens servidas de {} arquivos",
+                stub.getBaseUrl(), stub.images.size(), imageFiles.size());
+        return stub;
+    }
+
+    /**
+     * @return URL base que substitui o host de imagens do catálogo (ex.: http://127.0.0.1:54321)
+     */
+    public String getBaseUrl() {
+        try {
+            return "http://127.0.0.1:" + ((InetSocketAddress) server.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return Catálogo servido por esta instância
+     */
+    public DogCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Encerra o servidor, as conexões abertas e o pool de threads.
+     */
+    public void stop() {
+        running = false;
+        closeQuietly(server);
+        connections.forEach(ImageHostStubServer::closeQuietly);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        files.forEach(ImageHostStubServer::closeQuietly);
+        logger.info("Servidor substituto de imagens encerrado");
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                SocketChannel connection = server.accept();
+                connections.add(connection);
+                executor.execute(() -> serve(connection));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                logger.warn("Falha ao aceitar conexão no servidor substituto de imagens: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void serve(SocketChannel connection) {
+        try (connection) {
+            connection.socket().setTcpNoDelay(true);
+            connection.socket().setSoTimeout(IDLE_TIMEOUT_MS);
+            InputStream input = new BufferedInputStream(connection.socket().getInputStream());
+
+            while (running) {
+                List<String> head = readHead(input);
+                if (head == null) {
+                    return;
+                }
+                if (!handle(connection, input, head)) {
+                    return;
+                }
+            }
+        } catch (SocketTimeoutException | ClosedChannelException e) {
+            // Conexão ociosa ou servidor encerrado
+        } catch (IOException e) {
+            logger.debug("Conexão com o servidor substituto de imagens interrompida: {}", e.getMessage());
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    /**
+     * Atende uma requisição.
+     *
+     * @return true se a conexão deve continuar aberta para a próxima requisição
+     */
+    private boolean handle(SocketChannel connection, InputStream input, List<String> head) throws IOException {
+        String[] requestLine = head.get(0).split(" ");
+        if (requestLine.length != 3) {
+            sendHead(connection, 400, "text/html", 0, null, false);
+            return false;
+        }
+        String method = requestLine[0];
+        String path = requestLine[1].split("\\?", 2)[0];
+        Map<String, String> headers = parseHeaders(head);
+
+        long contentLength = parseContentLength(headers.get("content-length"));
+        if (contentLength < 0) {
+            // Sem saber onde o corpo termina, a conexão não pode ser reaproveitada
+            sendHtml(connection, 400, "<h1>400 Bad Request</h1>", null, false);
+            return false;
+        }
+        input.skipNBytes(contentLength);
+        boolean keepAlive = "HTTP/1.1".equals(requestLine[2]) && !"close".equalsIgnoreCase(headers.get("connection"));
+        boolean headOnly = "HEAD".equals(method);
+
+        if (!"GET".equals(method) && !headOnly) {
+            sendHtml(connection, 405, "<h1>405 Method Not Allowed</h1>", "Allow: GET, HEAD", keepAlive);
+            return keepAlive;
+        }
+
+        FileChannel image = images.get(path);
+        if (image == null) {
+            sendHtml(connection, 404, "<h1>404 Not Found</h1>", null, keepAlive);
+            return keepAlive;
+        }
+
+        long size = image.size();
+        String range = headers.get("range");
+        Matcher matcher = range == null ? null : RANGE.matcher(range.trim());
+        if (matcher == null || !matcher.matches()) {
+            sendHead(connection, 200, CONTENT_TYPE_JPEG, size, null, keepAlive);
+            if (!headOnly) {
+                transfer(image, 0, size, connection);
+            }
+            return keepAlive;
+        }
+
+        long start;
+        long end;
+        try {
+            start = Long.parseLong(matcher.group(1));
+            end = matcher.group(2).isEmpty() ? size - 1 : Math.min(Long.parseLong(matcher.group(2)), size - 1);
+        } catch (NumberFormatException e) {
+            // Posições além de Long.MAX_VALUE: certamente fora do arquivo
+            start = size;
+            end = size;
+        }
+        if (start >= size || start > end) {
+            sendHead(connection, 416, "text/html", 0, "Content-Range: bytes */" + size, keepAlive);
+            return keepAlive;
+        }
+        sendHead(connection, 206, CONTENT_TYPE_JPEG, end - start + 1,
+                "Content-Range: bytes " + start + "-" + end + "/" + size, keepAlive);
+        if (!headOnly) {
+            transfer(image, start, end - start + 1, connection);
+        }
+        return keepAlive;
+    }
+
+    /**
+     * Copia o trecho do arquivo para o socket sem passar pela heap. transferTo pode transferir menos que o
+     * pedido, então repete até o fim.
+     */
+    private static void transfer(FileChannel image, long position, long count, SocketChannel connection)
+            throws IOException {
+        long sent = 0;
+        while (sent < count) {
+            sent += image.transferTo(position + sent, count - sent, connection);
+        }
+    }
+
+    private static void sendHtml(SocketChannel connection, int status, String html, String extraHeader,
+                                 boolean keepAlive) throws IOException {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        sendHead(connection, status, "text/html", body.length, extraHeader, keepAlive);
+        write(connection, ByteBuffer.wrap(body));
+    }
+
+    private static void sendHead(SocketChannel connection, int status, String contentType, long contentLength,
+                                 String extraHeader, boolean keepAlive) throws IOException {
+        StringBuilder head = new StringBuilder()
+                .append("HTTP/1.1 ").append(status).append(' ').append(reason(status)).append("\r\n")
+                .append("Content-Type: ").append(contentType).append("\r\n")
+                .append("Content-Length: ").append(contentLength).append("\r\n");
+        if (extraHeader != null) {
+            head.append(extraHeader).append("\r\n");
+        }
+        if (!keepAlive) {
+            head.append("Connection: close\r\n");
+        }
+        write(connection, ByteBuffer.wrap(head.append("\r\n").toString().getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static void write(SocketChannel connection, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            connection.write(buffer);
+        }
+    }
+
+    /**
+     * Lê a linha de requisição e os cabeçalhos até a linha em branco.
+     *
+     * @return Linhas do cabeçalho, ou null se o cliente fechou a conexão
+     */
+    private static List<String> readHead(InputStream input) throws IOException {
+        List<String> lines = new ArrayList<>();
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int total = 0;
+
+        int b;
+        while ((b = input.read()) >= 0) {
+            if (++total > MAX_HEAD_BYTES) {
+                throw new IOException("Cabeçalho da requisição maior que " + MAX_HEAD_BYTES + " bytes");
+            }
+            if (b == '\n') {
+                String text = line.toString(StandardCharsets.ISO_8859_1).stripTrailing();
+                line.reset();
+                if (text.isEmpty()) {
+                    if (lines.isEmpty()) {
+                        continue;
+                    }
+                    return lines;
+                }
+                lines.add(text);
+            } else {
+                line.write(b);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Valor do Content-Length (0 se ausente), ou -1 se malformado ou negativo
+     */
+    private static long parseContentLength(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Math.max(-1, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Map<String, String> parseHeaders(List<String> head) {
+        Map<String, String> headers = new HashMap<>();
+        for (String line : head.subList(1, head.size())) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static String reason(int status) {
+        switch (status) {
+            case 200: return "OK";
+            case 206: return "Partial Content";
+            case 400: return "Bad Request";
+            case 404: return "Not Found";
+            case 405: return "Method Not Allowed";
+            case 416: return "Range Not Satisfiable";
+            default: return "";
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Encerramento: nada a fazer
+        }
+    }
+
+    /**
+     * Gera bytes com os marcadores de início (SOI/APP0) e fim (EOI) de um JPEG; o conteúdo
+     * entre eles não é uma imagem decodificável, apenas ocupa o tamanho configurado.
+     */
+    private static byte[] syntheticJpeg(int size) {
+        byte[] header = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10, 'J', 'F', 'I', 'F', 0x00};
+        byte[] image = new byte[Math.max(size, header.length + 2)];
+        System.arraycopy(header, 0, image, 0, header.length);
+        image[image.length - 2] = (byte) 0xFF;
+        image[image.length - 1] = (byte) 0xD9;
+        return image;
+    }
+}
@@ -0,0 +1,40 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.utils.AllureAttachmentPipeline;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.util.Optional;
+
+/**
+ * Extensão que delimita cada teste para o {@link AllureAttachmentPipeline}, permitindo que as
+ * políticas failures e slowest escolham os anexos conforme o resultado do teste.
+ */
+public class AllureAttachmentExtension implements BeforeEachCallback, TestWatcher {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        AllureAttachmentPipeline.testStarted();
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        AllureAttachmentPipeline.testFinished(false);
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        AllureAttachmentPipeline.testFinished(true);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        AllureAttachmentPipeline.testFinished(false);
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        AllureAttachmentPipeline.testFinished(false);
+    }
+}
@@ -1,24 +1,52 @@
 package com.desafio.act.tests;
 
+import com.desafio.act.stub.DogApiStubServer;
+import com.desafio.act.utils.AllureAttachmentPipeline;
+import com.desafio.act.utils.HttpUtils;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+
 /**
  * Classe base abstrata que fornece hooks comuns para todas as classes de teste de API.
+ * As classes são executadas em paralelo (junit-platform.properties); estado carregado em
+ * setupTestSuite deve ficar em campos de instância, nunca em campos estáticos.
+ * As trocas HTTP de cada teste só são publicadas em caso de falha ({@link FailureLogExtension}) e os
+ * anexos do Allure seguem a política do {@link AllureAttachmentExtension}.
+ * Classes aninhadas e métodos são agendados pelo histórico de duração ({@link DurationHistory}),
+ * com os testes de fumaça à frente.
  */
+@ExtendWith({FailureLogExtension.class, AllureAttachmentExtension.class, SmokeFailFastCondition.class})
+@TestClassOrder(DurationClassOrderer.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public abstract class ApiTestHooks {
 
+    /**
+     * Recurso compartilhado que representa o tráfego contra a API.
+     * Classes aninhadas funcionais o adquirem em modo READ e as de performance em READ_WRITE,
+     * de forma que medições de tempo nunca concorram com outras requisições da suite.
+     */
+    protected static final String API_TRAFFIC = "dog-api-traffic";
+
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     /**
      * Hook executado uma vez antes de todos os testes da classe.
+     * Inicia o servidor substituto da Dog API quando o perfil "stub" estiver ativo.
      * Pode ser sobrescrito pelas classes filhas para configurações específicas.
      */
     @BeforeAll
     public void setUp() {
         logger.info("Iniciando suite de testes: {}", this.getClass().getSimpleName());
+
+        DogApiStubServer stub = DogApiStubServer.startIfEnabled();
+        if (stub != null && !stub.getBaseUrl().equals(HttpUtils.getBaseUrl())) {
+            HttpUtils.setBaseUrl(stub.getBaseUrl());
+        }
+
         setupTestSuite();
     }
 
@@ -44,12 +72,19 @@ public abstract class ApiTestHooks {
 
     /**
      * Hook executado uma vez após todos os testes da classe.
+     * Aguarda a escrita dos anexos do Allure pendentes e exporta as métricas HTTP acumuladas até aqui.
      * Pode ser sobrescrito pelas classes filhas para limpezas finais.
      */
     @AfterAll
     public void tearDown() {
         logger.info("Finalizando suite de testes: {}", this.getClass().getSimpleName());
         cleanupTestSuite();
+        AllureAttachmentPipeline.flush();
+        try {
+            HttpUtils.exportMetrics();
+        } catch (IOException e) {
+            logger.warn("Não foi possível exportar as métricas HTTP: {}", e.getMessage());
+        }
     }
 
     /**
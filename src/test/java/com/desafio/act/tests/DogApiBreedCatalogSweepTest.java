@@ -0,0 +1,207 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.utils.Assertions;
+import com.desafio.act.utils.Config;
+import com.desafio.act.utils.HttpUtils;
+import com.desafio.act.utils.HttpUtils.HttpMethod;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import org.apache.commons.httpclient.HttpStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Varredura de todo o catálogo: busca /breeds/list/all uma vez e gera um teste dinâmico para cada
+ * raça e sub-raça. As requisições são disparadas antecipadamente, no máximo sweep.concurrency ao
+ * mesmo tempo; cada teste dinâmico apenas aguarda e valida a sua resposta. As requisições rodam no pool
+ * assíncrono do HttpUtils, então a concorrência efetiva também é limitada por http.async.threads; o
+ * resumo informa o pico observado.
+ */
+@DisplayName("Varredura do Catálogo de Raças da Dog API")
+@Tag("sweep")
+@ResourceLock(value = ApiTestHooks.API_TRAFFIC, mode = ResourceAccessMode.READ)
+public class DogApiBreedCatalogSweepTest extends ApiTestHooks {
+
+    private static final String ENDPOINT_LISTA_RACAS = Config.get("endpoint.lista.racas").trim();
+    private static final String ENDPOINT_BASE = Config.get("endpoint.base");
+
+    private int concurrency;
+    private int effectiveConcurrency;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @Override
+    protected void setupTestSuite() {
+        concurrency = Math.max(1, Config.getInt("sweep.concurrency", 8));
+        int asyncThreads = Math.max(1, Config.getInt("http.async.threads", 16));
+        effectiveConcurrency = Math.min(concurrency, asyncThreads);
+        if (effectiveConcurrency < concurrency) {
+            logger.warn("sweep.concurrency={} excede http.async.threads={}: as requisições excedentes aguardam na fila do pool",
+                    concurrency, asyncThreads);
+        }
+        logger.info("Varredura com até {} requisições simultâneas", effectiveConcurrency);
+    }
+
+    @TestFactory
+    @DisplayName("GET /breed/{raça}[/{sub-raça}]/images para todo o catálogo")
+    public Stream<DynamicNode> deveRetornarImagensParaTodoOCatalogo() throws InterruptedException {
+        Response catalog = HttpUtils.sendRequest(HttpMethod.GET, ENDPOINT_LISTA_RACAS);
+        Assertions.verifyEquality(
+                HttpStatus.SC_OK,
+                catalog.getStatusCode(),
+                "O catálogo de raças deve ser obtido com sucesso");
+
+        List<String> breeds = new ArrayList<>();
+        HttpUtils.getJsonMap(catalog, "message").forEach((breed, subBreeds) -> {
+            breeds.add(breed);
+            ((List<?>) subBreeds).forEach(subBreed -> breeds.add(breed + "/" + subBreed));
+        });
+        logger.info("Catálogo com {} raças e sub-raças", breeds.size());
+
+        Map<String, CompletableFuture<SweepResult>> results = dispatch(breeds);
+
+        Stream<DynamicNode> perBreed = breeds.stream().map(breed -> DynamicTest.dynamicTest(
+                "GET /breed/" + breed + "/images",
+                () -> verifyBreed(breed, results.get(breed).join())));
+        Stream<DynamicNode> summary = Stream.of(DynamicTest.dynamicTest(
+                "Resumo da varredura",
+                () -> publishSummary(results)));
+        return Stream.concat(perBreed, summary);
+    }
+
+    /**
+     * Dispara todas as requisições, respeitando o limite de concorrência.
+     * A latência é a da tentativa que produziu a resposta ({@link HttpUtils#takeLastAttemptNanos()}), lida
+     * na thread do pool: não inclui a fila do executor nem as esperas do controle de ritmo.
+     */
+    private Map<String, CompletableFuture<SweepResult>> dispatch(List<String> breeds) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        Map<String, CompletableFuture<SweepResult>> results = new LinkedHashMap<>();
+        for (String breed : breeds) {
+            permits.acquire();
+            String endpoint = ENDPOINT_BASE + "/" + breed + "/images";
+            results.put(breed, HttpUtils.supplyAsync("GET " + endpoint, () -> send(breed, endpoint))
+                    .handle((result, error) -> {
+                        permits.release();
+                        return error == null ? result : new SweepResult(breed, null, error, -1);
+                    }));
+        }
+        return results;
+    }
+
+    private SweepResult send(String breed, String endpoint) {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            HttpUtils.takeLastAttemptNanos();
+            long start = System.nanoTime();
+            Response response = HttpUtils.sendRequest(HttpMethod.GET, endpoint);
+            long elapsed = System.nanoTime() - start;
+            // Sem tentativa (resposta do cache), vale o tempo da chamada
+            long attempt = HttpUtils.takeLastAttemptNanos();
+            return new SweepResult(breed, response, null, attempt >= 0 ? attempt : elapsed);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void verifyBreed(String breed, SweepResult result) {
+        Assertions.verifyTrue(
+                result.error == null,
+                "Falha na requisição para " + breed + ": " + result.error);
+        Assertions.verifyEquality(
+                HttpStatus.SC_OK,
+                result.response.getStatusCode(),
+                "Status code deve ser 200 para: " + breed);
+        Assertions.verifyEquality(
+                "success",
+                HttpUtils.getJsonFieldValue(result.response, "status"),
+                "Status deve ser 'success' para: " + breed);
+
+        List<String> imageUrls = HttpUtils.getJsonList(result.response, "message");
+        Assertions.verifyTrue(
+                !imageUrls.isEmpty(),
+                "Deve retornar pelo menos uma imagem para: " + breed);
+
+        String directory = "/breeds/" + breed.replace('/', '-');
+        Assertions.verifyTrue(
+                imageUrls.stream().allMatch(url -> url.contains(directory)),
+                "Todas as imagens devem pertencer ao diretório " + directory);
+
+        logger.info("{}: {} imagens em {} ms", breed, imageUrls.size(), result.latencyMillis());
+    }
+
+    private void publishSummary(Map<String, CompletableFuture<SweepResult>> results) throws IOException {
+        List<SweepResult> completed = new ArrayList<>();
+        results.values().forEach(future -> completed.add(future.join()));
+        completed.sort(Comparator.comparingLong((SweepResult result) -> result.latencyNanos).reversed());
+
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%-32s %8s %10s %8s%n", "raça", "status", "latência", "imagens"));
+        long failures = 0;
+        for (SweepResult result : completed) {
+            boolean ok = result.error == null && result.response.getStatusCode() == HttpStatus.SC_OK;
+            String status = result.error != null ? "erro" : String.valueOf(result.response.getStatusCode());
+            if (!ok) {
+                failures++;
+            }
+            // A contagem vem da própria resposta (o documento já foi interpretado), sem depender da
+            // execução ou da ordem dos testes dinâmicos de cada raça
+            text.append(String.format("%-32s %8s %10s %8s%n", result.breed, status,
+                    result.latencyNanos < 0 ? "-" : result.latencyMillis() + " ms",
+                    ok ? String.valueOf(HttpUtils.getJsonList(result.response, "message").size()) : "-"));
+        }
+        text.append(String.format("%d endpoints, %d falhas, concorrência %d (configurada %d, pico observado %d)%n",
+                completed.size(), failures, effectiveConcurrency, concurrency, peakInFlight.get()));
+
+        String report = text.toString();
+        logger.info("Resumo da varredura:\n{}", report);
+        Allure.addAttachment("Resumo da varredura", "text/plain", report);
+
+        Path reportFile = Paths.get(Config.get("sweep.report.file"));
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+
+        Assertions.verifyEquality(0L, failures, "Todos os endpoints do catálogo devem responder com sucesso");
+    }
+
+    private static final class SweepResult {
+        final String breed;
+        final Response response;
+        final Throwable error;
+        final long latencyNanos;
+
+        SweepResult(String breed, Response response, Throwable error, long latencyNanos) {
+            this.breed = breed;
+            this.response = response;
+            this.error = error;
+            this.latencyNanos = latencyNanos;
+        }
+
+        long latencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        }
+    }
+}
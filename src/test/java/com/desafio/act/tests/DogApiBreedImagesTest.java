@@ -3,29 +3,40 @@ package com.desafio.act.tests;
 import com.desafio.act.utils.HttpUtils;
 import com.desafio.act.utils.Assertions;
 import com.desafio.act.utils.FixtureUtils;
+import com.desafio.act.utils.LatencyBudget;
+import com.desafio.act.utils.LatencyMeter;
+import com.desafio.act.utils.LatencyMeter.LatencyResult;
 import com.desafio.act.utils.Config;
 import com.desafio.act.utils.HttpUtils.HttpMethod;
+import com.desafio.act.utils.HttpUtils.Request;
+import com.desafio.act.utils.StreamingClient;
+import com.desafio.act.utils.StreamingClient.JsonArrayStream;
 import io.restassured.response.Response;
 import org.apache.commons.httpclient.HttpStatus;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 @DisplayName("Testes da API de Imagens por Raça de Cães")
 public class DogApiBreedImagesTest extends ApiTestHooks {
 
     private static final String ENDPOINT_BASE = Config.get("endpoint.base");
-    private static int EXPECTED_TIMEOUT_MS;
+    private LatencyBudget latencyBudget;
 
     @Override
     protected void setupTestSuite() {
         try {
-            EXPECTED_TIMEOUT_MS = FixtureUtils.getIntegerFromFixture("breed-images.json",
-                    "timeout_esperado_ms");
+            latencyBudget = LatencyBudget.fromFixture("breed-images.json", "latencia_esperada");
             logger.info("Fixtures carregadas com sucesso");
         } catch (IOException e) {
             logger.error("Erro ao carregar fixtures: {}", e.getMessage());
@@ -34,6 +45,7 @@ public class DogApiBreedImagesTest extends ApiTestHooks {
     }
 
     @Nested
+    @ResourceLock(value = API_TRAFFIC, mode = ResourceAccessMode.READ)
     @DisplayName("Testes de Funcionalidade Básica")
     class TestesFuncionalidadeBasica {
 
@@ -55,13 +67,13 @@ public class DogApiBreedImagesTest extends ApiTestHooks {
                     response.getStatusCode(),
                     "Status code deve ser 200 para raça: " + breed);
 
-            String[] imageUrls = HttpUtils.getJsonFieldValue(response, "message").split(",");
+            List<String> imageUrls = HttpUtils.getJsonList(response, "message");
             Assertions.verifyTrue(
-                    imageUrls.length > 0,
+                    !imageUrls.isEmpty(),
                     "Deve retornar pelo menos uma imagem para raça: " + breed);
 
             logger.info("Teste concluído com sucesso para raça: {}. {} imagens encontradas",
-                    breed, imageUrls.length);
+                    breed, imageUrls.size());
         }
 
         @Test
@@ -78,9 +90,32 @@ public class DogApiBreedImagesTest extends ApiTestHooks {
 
             logger.info("Validação de contrato concluída com sucesso");
         }
+
+        @Test
+        @DisplayName("Lista de imagens lida em streaming deve ser igual à resposta completa")
+        @Tag("funcionalidade")
+        public void deveLerListaDeImagensEmStreaming() throws IOException {
+            String endpoint = ENDPOINT_BASE + "/husky/images";
+            List<String> expected = HttpUtils.getJsonList(HttpUtils.sendRequest(HttpMethod.GET, endpoint), "message");
+
+            List<String> streamed = new ArrayList<>();
+            try (JsonArrayStream stream = HttpUtils.streamJsonList(endpoint)) {
+                Assertions.verifyEquality(
+                        HttpStatus.SC_OK,
+                        stream.getStatusCode(),
+                        "Status code deve ser 200 na leitura em streaming");
+                stream.forEachRemaining(streamed::add);
+            }
+
+            Assertions.verifyEquality(
+                    expected,
+                    streamed,
+                    "A lista lida em streaming deve ter os mesmos elementos, na mesma ordem");
+        }
     }
 
     @Nested
+    @ResourceLock(value = API_TRAFFIC, mode = ResourceAccessMode.READ)
     @DisplayName("Testes de Validação e Tratamento de Erro")
     class TestesValidacaoETratamentoDeErro {
 
@@ -140,41 +175,54 @@ public class DogApiBreedImagesTest extends ApiTestHooks {
 
             logger.info("Validação de método {} concluída com sucesso", method);
         }
+
+        @Test
+        @DisplayName("Leitura em streaming de raça inválida deve falhar com o status da resposta")
+        @Tag("validacao")
+        public void leituraEmStreamingDeRacaInvalidaDeveFalhar() {
+            String endpoint = ENDPOINT_BASE + "/racainexistente/images";
+
+            StreamingClient.StatusException error = assertThrows(
+                    StreamingClient.StatusException.class,
+                    () -> HttpUtils.streamJsonList(endpoint).close());
+
+            Assertions.verifyEquality(
+                    HttpStatus.SC_NOT_FOUND,
+                    error.getStatusCode(),
+                    "O erro deve trazer o status 404 da resposta");
+            Assertions.verifyContains(error.getMessage(), endpoint, "A mensagem deve indicar o endpoint");
+        }
     }
 
     @Nested
+    @ResourceLock(value = API_TRAFFIC, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("Testes de Performance")
     class TestesPerformance {
 
         @Test
-        @DisplayName("GET /breed/husky/images deve responder em menos de 3 segundos")
+        @DisplayName("GET /breed/husky/images deve respeitar o orçamento de latência")
         @Tag("performance")
         public void deveResponderRapidamente() {
             logger.info("Executando teste de performance para imagens de raça");
 
-            long startTime = System.currentTimeMillis();
-
-            Response response = HttpUtils.sendRequest(
-                    HttpMethod.GET,
-                    ENDPOINT_BASE + "/husky/images");
-
-            long responseTime = System.currentTimeMillis() - startTime;
+            LatencyResult result = LatencyMeter.measure(
+                    "GET " + ENDPOINT_BASE + "/husky/images",
+                    latencyBudget,
+                    () -> HttpUtils.sendRequestWithoutCache(HttpMethod.GET, ENDPOINT_BASE + "/husky/images"));
 
             Assertions.verifyEquality(
-                    HttpStatus.SC_OK,
-                    response.getStatusCode(),
-                    "A API deve responder com sucesso");
+                    0,
+                    result.getErrors(),
+                    "A API deve responder com sucesso em todas as amostras");
 
-            Assertions.verifyTrue(
-                    responseTime < EXPECTED_TIMEOUT_MS,
-                    "Resposta deve ser menor que " + EXPECTED_TIMEOUT_MS + "ms, mas demorou "
-                            + responseTime + "ms");
+            Assertions.verifyLatencyBudget(result, latencyBudget);
 
-            logger.info("Teste de performance concluído. Tempo de resposta: {}ms", responseTime);
+            logger.info("Teste de performance concluído. {}", result.summary());
         }
     }
 
     @Nested
+    @ResourceLock(value = API_TRAFFIC, mode = ResourceAccessMode.READ)
     @DisplayName("Testes de Edge Cases")
     class TestesEdgeCases {
 
@@ -202,24 +250,21 @@ public class DogApiBreedImagesTest extends ApiTestHooks {
         public void deveRetornarListaDiferenteParaCadaRequisicao() {
             logger.info("Executando teste de unicidade das listas de imagens");
 
-            Response response1 = HttpUtils.sendRequest(
-                    HttpMethod.GET,
-                    ENDPOINT_BASE + "/husky/images");
-
-            Response response2 = HttpUtils.sendRequest(
-                    HttpMethod.GET,
-                    ENDPOINT_BASE + "/husky/images");
+            Request request = Request.of(HttpMethod.GET, ENDPOINT_BASE + "/husky/images").withoutCache();
+            List<Response> responses = HttpUtils.sendAll(List.of(request, request));
+            Response response1 = responses.get(0);
+            Response response2 = responses.get(1);
 
-            String[] imageUrls1 = HttpUtils.getJsonFieldValue(response1, "message").split(",");
-            String[] imageUrls2 = HttpUtils.getJsonFieldValue(response2, "message").split(",");
+            List<String> imageUrls1 = HttpUtils.getJsonList(response1, "message");
+            List<String> imageUrls2 = HttpUtils.getJsonList(response2, "message");
 
             // Valida que ambas as listas são válidas
             Assertions.verifyTrue(
-                    imageUrls1.length > 0 && imageUrls2.length > 0,
+                    !imageUrls1.isEmpty() && !imageUrls2.isEmpty(),
                     "Ambas as listas devem conter imagens");
 
             logger.info("Teste de unicidade concluído. Lista 1: {} imagens, Lista 2: {} imagens",
-                    imageUrls1.length, imageUrls2.length);
+                    imageUrls1.size(), imageUrls2.size());
         }
 
         @Test
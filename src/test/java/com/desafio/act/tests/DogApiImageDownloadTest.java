@@ -0,0 +1,68 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.load.ImageDownloadBenchmark;
+import com.desafio.act.load.ImageDownloadReport;
+import com.desafio.act.load.ImageDownloadReport.LevelResult;
+import com.desafio.act.stub.ImageHostStubServer;
+import com.desafio.act.utils.Assertions;
+import com.desafio.act.utils.Config;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Benchmark de vazão do download das imagens devolvidas por /breeds/image/random. Fica fora da execução
+ * padrão; use o perfil "download" (mvn test -Pdownload, ou -Pdownload,stub para baixar do host de imagens
+ * substituto, sem rede).
+ */
+@DisplayName("Benchmark de Download das Imagens da Dog API")
+@Tag("download")
+@ResourceLock(value = ApiTestHooks.API_TRAFFIC, mode = ResourceAccessMode.READ_WRITE)
+public class DogApiImageDownloadTest extends ApiTestHooks {
+
+    private ImageDownloadBenchmark benchmark;
+
+    @Override
+    protected void setupTestSuite() {
+        benchmark = ImageDownloadBenchmark.fromConfig();
+
+        ImageHostStubServer imageHost = ImageHostStubServer.startIfEnabled();
+        if (imageHost != null) {
+            benchmark.withHostRewrite(imageHost.getCatalog().getImagesHost(), imageHost.getBaseUrl());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve baixar as imagens em cada nível de paralelismo dentro da taxa de erro aceitável")
+    public void deveBaixarImagensEmCadaNivelDeParalelismo() throws IOException, InterruptedException {
+        ImageDownloadReport report = benchmark.run();
+
+        String reportText = report.toString();
+        logger.info("Resultado do benchmark de download:\n{}", reportText);
+        Allure.addAttachment("Benchmark de download de imagens", "text/plain", reportText);
+
+        Path reportFile = Paths.get(Config.get("download.report.file"));
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, reportText, StandardCharsets.UTF_8);
+
+        double maxErrorRate = Config.getDouble("download.max.error.rate", 0);
+        for (LevelResult level : report.getLevels()) {
+            Assertions.verifyTrue(
+                    level.getImages() > 0,
+                    "Nenhuma imagem baixada com paralelismo " + level.getParallelism());
+            Assertions.verifyTrue(
+                    level.errorRate() <= maxErrorRate,
+                    String.format("Taxa de erro %.2f%% acima do limite de %.2f%% com paralelismo %d",
+                            level.errorRate() * 100, maxErrorRate * 100, level.getParallelism()));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.stub.ImageHostStubServer;
+import com.desafio.act.utils.Assertions;
+import com.desafio.act.utils.Config;
+import com.desafio.act.utils.FixtureUtils;
+import com.desafio.act.utils.HttpUtils;
+import com.desafio.act.utils.HttpUtils.HttpMethod;
+import com.desafio.act.utils.HttpUtils.Request;
+import com.desafio.act.utils.ImageLinkVerifier;
+import com.desafio.act.utils.ImageLinkVerifier.LinkReport;
+import com.desafio.act.utils.StreamingClient.Download;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import org.apache.commons.httpclient.HttpStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Verifica se as URLs de imagem devolvidas pela API respondem de fato.
+ * No perfil "stub" as URLs de images.dog.ceo são verificadas contra o {@link ImageHostStubServer}.
+ * A verificação do catálogo completo (~20 mil URLs) fica fora da execução padrão (perfil "links").
+ */
+@DisplayName("Testes de Disponibilidade das Imagens da Dog API")
+@ResourceLock(value = ApiTestHooks.API_TRAFFIC, mode = ResourceAccessMode.READ)
+public class DogApiImageLinkTest extends ApiTestHooks {
+
+    private static final String RANDOM_IMAGE_ENDPOINT = Config.get("endpoint.imagem.aleatoria");
+    private static final String ENDPOINT_LISTA_RACAS = Config.get("endpoint.lista.racas").trim();
+    private static final String ENDPOINT_BASE = Config.get("endpoint.base");
+    private static final String IMAGES_HOST = "https://images.dog.ceo";
+
+    private ImageLinkVerifier verifier;
+    private ImageHostStubServer imageHost;
+
+    @Override
+    protected void setupTestSuite() {
+        verifier = ImageLinkVerifier.fromConfig();
+
+        imageHost = ImageHostStubServer.startIfEnabled();
+        if (imageHost != null) {
+            verifier.withHostRewrite(imageHost.getCatalog().getImagesHost(), imageHost.getBaseUrl());
+        }
+    }
+
+    @ParameterizedTest(name = "Imagens de /breed/{0}/images devem estar disponíveis")
+    @MethodSource("com.desafio.act.tests.DogApiImageLinkTest#getValidBreeds")
+    @DisplayName("Imagens de raças válidas devem estar disponíveis")
+    @Tag("funcionalidade")
+    public void imagensDaRacaDevemEstarDisponiveis(String breed) {
+        Response response = HttpUtils.sendRequest(HttpMethod.GET, ENDPOINT_BASE + "/" + breed + "/images");
+        Assertions.verifyEquality(
+                HttpStatus.SC_OK,
+                response.getStatusCode(),
+                "Status code deve ser 200 para raça: " + breed);
+
+        LinkReport report = verifier.verify(response);
+
+        Assertions.verifyTrue(
+                report.getUnique() > 0,
+                "A resposta deve conter URLs de imagem para raça: " + breed);
+        Assertions.verifyTrue(
+                report.isHealthy(),
+                "Links quebrados para " + breed + ":\n" + report.render(20));
+    }
+
+    @Test
+    @DisplayName("Imagem aleatória deve estar disponível")
+    @Tag("funcionalidade")
+    public void imagemAleatoriaDeveEstarDisponivel() {
+        Response response = HttpUtils.sendRequest(HttpMethod.GET, RANDOM_IMAGE_ENDPOINT);
+
+        LinkReport report = verifier.verify(response);
+
+        Assertions.verifyEquality(1, report.getUnique(), "A resposta deve conter uma URL de imagem");
+        Assertions.verifyTrue(report.isHealthy(), "Link quebrado:\n" + report.render(1));
+    }
+
+    @Test
+    @DisplayName("Links repetidos devem ser verificados uma vez e links inexistentes reportados")
+    @Tag("edge-case")
+    public void deveDeduplicarEReportarLinksQuebrados() {
+        Response response = HttpUtils.sendRequest(HttpMethod.GET, ENDPOINT_BASE + "/husky/images");
+        List<String> urls = new ArrayList<>(HttpUtils.getJsonList(response, "message"));
+        String missing = IMAGES_HOST + "/breeds/husky/imagem_inexistente.jpg";
+        urls.addAll(new ArrayList<>(urls));
+        urls.add(missing);
+
+        LinkReport report = verifier.verify(urls);
+
+        Assertions.verifyEquality(
+                urls.size() / 2 + 1,
+                report.getUnique(),
+                "URLs repetidas devem ser verificadas uma única vez");
+        Assertions.verifyEquality(
+                List.of(missing),
+                report.getBroken().stream().map(ImageLinkVerifier.BrokenLink::getUrl).collect(Collectors.toList()),
+                "Somente a URL inexistente deve ser reportada como quebrada");
+    }
+
+    @Test
+    @DisplayName("Imagem aleatória deve ser baixada direto para disco com o tamanho recebido")
+    @Tag("funcionalidade")
+    public void deveBaixarImagemParaDisco() throws IOException {
+        String url = randomImageUrl();
+        Path target = Files.createTempFile("dog-image-", ".jpg");
+        try {
+            Download download = HttpUtils.download(url, target);
+
+            Assertions.verifyEquality(HttpStatus.SC_OK, download.getStatusCode(), "Status code deve ser 200 para " + url);
+            Assertions.verifyTrue(
+                    download.getContentType().startsWith("image/"),
+                    "Content-Type deve ser image/*, recebido: " + download.getContentType());
+            Assertions.verifyTrue(download.getBytes() > 0, "A imagem não pode vir vazia");
+            Assertions.verifyEquality(
+                    download.getBytes(),
+                    Files.size(target),
+                    "O arquivo gravado deve ter todos os bytes recebidos");
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    @DisplayName("Download acima do limite de tamanho deve ser abortado")
+    @Tag("edge-case")
+    public void deveAbortarDownloadAcimaDoLimite() throws IOException {
+        String url = randomImageUrl();
+        Path target = Files.createTempFile("dog-image-", ".jpg");
+
+        IOException error = null;
+        try {
+            HttpUtils.download(url, target, 1024);
+        } catch (IOException e) {
+            error = e;
+        } finally {
+            Files.deleteIfExists(target);
+        }
+
+        Assertions.isNotNull(error, "O download de " + url + " deveria ser abortado pelo limite de 1 KiB");
+        Assertions.verifyContains(error.getMessage(), "excede o limite", "A falha deve indicar o limite excedido");
+    }
+
+    @Test
+    @DisplayName("Todas as imagens do catálogo devem estar disponíveis")
+    @Tag("catalog-links")
+    public void todasAsImagensDoCatalogoDevemEstarDisponiveis() throws IOException {
+        Response catalog = HttpUtils.sendRequest(HttpMethod.GET, ENDPOINT_LISTA_RACAS);
+        List<Request> requests = HttpUtils.getJsonMap(catalog, "message").keySet().stream()
+                .map(breed -> Request.of(HttpMethod.GET, ENDPOINT_BASE + "/" + breed + "/images"))
+                .collect(Collectors.toList());
+
+        List<String> urls = new ArrayList<>();
+        for (Response response : HttpUtils.sendAll(requests)) {
+            urls.addAll(HttpUtils.getJsonList(response, "message"));
+        }
+
+        LinkReport report = verifier.verify(urls);
+        String reportText = report.render(200);
+        Allure.addAttachment("Verificação de links do catálogo", "text/plain", reportText);
+
+        Path reportFile = Paths.get(Config.get("image.verify.report.file"));
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        Files.writeString(reportFile, reportText, StandardCharsets.UTF_8);
+
+        Assertions.verifyTrue(report.isHealthy(), "Links quebrados no catálogo:\n" + report.render(20));
+    }
+
+    private String randomImageUrl() {
+        String url = HttpUtils.getJsonFieldValue(HttpUtils.sendRequest(HttpMethod.GET, RANDOM_IMAGE_ENDPOINT), "message");
+        return imageHost == null ? url : url.replace(imageHost.getCatalog().getImagesHost(), imageHost.getBaseUrl());
+    }
+
+    static Stream<String> getValidBreeds() throws IOException {
+        return FixtureUtils.getStreamFromFixture("breed-images.json", "racas_validas");
+    }
+}
@@ -0,0 +1,60 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.load.LoadGenerator;
+import com.desafio.act.load.LoadProfile;
+import com.desafio.act.load.LoadReport;
+import com.desafio.act.utils.Assertions;
+import com.desafio.act.utils.Config;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Execução de carga sobre os endpoints do test.properties. Fica fora da execução padrão;
+ * use o perfil "load" (mvn test -Pload, ou -Pload,stub contra o servidor substituto).
+ */
+@DisplayName("Testes de Carga da Dog API")
+@Tag("load")
+@ResourceLock(value = ApiTestHooks.API_TRAFFIC, mode = ResourceAccessMode.READ_WRITE)
+public class DogApiLoadTest extends ApiTestHooks {
+
+    private LoadProfile profile;
+
+    @Override
+    protected void setupTestSuite() {
+        profile = LoadProfile.fromConfig();
+        logger.info("Perfil de carga carregado: {}", profile);
+    }
+
+    @Test
+    @DisplayName("Deve sustentar a carga configurada dentro da taxa de erro aceitável")
+    public void deveSustentarCargaConfigurada() throws InterruptedException, IOException {
+        LoadReport report = new LoadGenerator(profile).run();
+
+        String reportText = report.toString();
+        logger.info("Resultado da carga:\n{}", reportText);
+        Allure.addAttachment("Relatório de carga", "text/plain", reportText);
+
+        Path reportFile = Paths.get(Config.get("load.report.file"));
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, reportText, StandardCharsets.UTF_8);
+
+        double maxErrorRate = Double.parseDouble(Config.get("load.max.error.rate").trim());
+        Assertions.verifyTrue(
+                report.totalRequests() > 0,
+                "A carga deve executar pelo menos uma requisição");
+        Assertions.verifyTrue(
+                report.errorRate() <= maxErrorRate,
+                String.format("Taxa de erro %.2f%% acima do limite de %.2f%%",
+                        report.errorRate() * 100, maxErrorRate * 100));
+    }
+}
@@ -0,0 +1,70 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.load.ResourceSampler.Resource;
+import com.desafio.act.load.SoakReport;
+import com.desafio.act.load.SoakRunner;
+import com.desafio.act.utils.Assertions;
+import com.desafio.act.utils.Config;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Execução de resistência sobre as classes DogApi*Test, procurando vazamentos lentos de heap,
+ * descritores de arquivo, threads e conexões no cliente. Fica fora da execução padrão;
+ * use o perfil "soak" (mvn test -Psoak, ou -Psoak,stub contra o servidor substituto).
+ */
+@DisplayName("Teste de Resistência da Dog API")
+@Tag("soak")
+@ResourceLock(value = ApiTestHooks.API_TRAFFIC, mode = ResourceAccessMode.READ_WRITE)
+public class DogApiSoakTest extends ApiTestHooks {
+
+    private SoakRunner runner;
+
+    @Override
+    protected void setupTestSuite() {
+        runner = SoakRunner.fromConfig();
+    }
+
+    @Test
+    @DisplayName("Deve repetir a suite sem crescimento contínuo de recursos")
+    public void deveRepetirSuiteSemVazarRecursos() throws IOException {
+        SoakReport report = runner.run();
+
+        String reportText = report.toString();
+        logger.info("Resultado do soak:\n{}", reportText);
+        Allure.addAttachment("Relatório de soak", "text/plain", reportText);
+
+        Path outputDir = Paths.get(Config.get("soak.output.dir"));
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve("soak-report.txt"), reportText, StandardCharsets.UTF_8);
+        report.getSampler().writeCsv(outputDir.resolve("soak-samples.csv"));
+
+        double maxFailureRate = Config.getDouble("soak.max.failure.rate", 0.01);
+        Assertions.verifyTrue(
+                report.getIterations() > 0,
+                "O soak deve executar pelo menos uma iteração");
+        Assertions.verifyTrue(
+                !report.unmeasured().contains(Resource.HEAP_MB),
+                "Amostras insuficientes após o aquecimento; aumente soak.duration.minutes ou reduza soak.sample.seconds");
+        Assertions.verifyTrue(
+                report.failureRate() <= maxFailureRate,
+                String.format("Taxa de falhas %.2f%% acima do limite de %.2f%%",
+                        report.failureRate() * 100, maxFailureRate * 100));
+
+        List<String> violations = report.violations();
+        Assertions.verifyTrue(
+                violations.isEmpty(),
+                "Crescimento de recursos acima do limite: " + String.join("; ", violations));
+    }
+}
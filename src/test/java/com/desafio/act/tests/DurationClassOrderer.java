@@ -0,0 +1,25 @@
+package com.desafio.act.tests;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+
+/**
+ * Ordena classes de teste (e classes @Nested, via @TestClassOrder em {@link ApiTestHooks}) pelo histórico
+ * de duração: classes com testes de fumaça primeiro, depois as sem histórico e, por fim, da mais longa à
+ * mais curta. Submeter as mais longas primeiro evita que uma classe lenta comece por último e estenda
+ * a execução paralela. Configurado em junit-platform.properties (junit.jupiter.testclass.order.default).
+ */
+public class DurationClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        context.getClassDescriptors().sort(Comparator
+                .comparing((ClassDescriptor descriptor) -> !DurationHistory.containsSmoke(descriptor.getTestClass()))
+                .thenComparing(descriptor -> DurationHistory.previous(DurationHistory.key(descriptor.getTestClass())) >= 0)
+                .thenComparing(descriptor -> DurationHistory.previous(DurationHistory.key(descriptor.getTestClass())),
+                        Comparator.reverseOrder()));
+    }
+}
@@ -0,0 +1,159 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.utils.Config;
+import org.junit.jupiter.api.Tag;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Histórico de duração dos testes entre execuções, usado pelos orderers para agendar os testes mais
+ * longos primeiro. As durações (em ms) ficam em test.durations.file, suavizadas por média móvel
+ * exponencial, e são chaveadas pelo nome da classe ou por classe#método(parâmetros).
+ * Também guarda a primeira falha de teste de fumaça da execução, consultada pelo
+ * {@link SmokeFailFastCondition}.
+ */
+public final class DurationHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(DurationHistory.class);
+    private static final String SMOKE = "smoke";
+    private static final Path FILE = Paths.get(Config.get("test.durations.file"));
+    private static final double SMOOTHING = Config.getDouble("test.durations.smoothing", 0.5);
+    private static final Map<String, Long> PREVIOUS = load();
+    private static final Map<String, Long> CURRENT = new ConcurrentHashMap<>();
+    private static volatile String smokeFailure;
+
+    private DurationHistory() {
+    }
+
+    /**
+     * @param key Chave de classe ou método
+     * @return Duração registrada em execuções anteriores (ms), ou -1 se o teste ainda não tiver histórico
+     */
+    public static long previous(String key) {
+        return PREVIOUS.getOrDefault(key, -1L);
+    }
+
+    /**
+     * Registra a duração de uma classe ou método nesta execução. Para testes parametrizados, o
+     * contêiner e as invocações compartilham a chave e prevalece a maior duração (a do contêiner).
+     *
+     * @param key Chave de classe ou método
+     * @param millis Duração em milissegundos
+     */
+    public static void record(String key, long millis) {
+        CURRENT.merge(key, millis, Math::max);
+    }
+
+    /**
+     * Grava o histórico, combinando as durações desta execução com as anteriores.
+     * Testes que não rodaram nesta execução (ex.: filtrados por tag) mantêm o valor anterior.
+     */
+    public static void save() {
+        if (CURRENT.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> merged = new TreeMap<>(PREVIOUS);
+        CURRENT.forEach((key, millis) -> merged.merge(key, millis,
+                (old, latest) -> Math.round(SMOOTHING * latest + (1 - SMOOTHING) * old)));
+
+        Properties properties = new Properties();
+        merged.forEach((key, millis) -> properties.setProperty(key, Long.toString(millis)));
+        try {
+            if (FILE.getParent() != null) {
+                Files.createDirectories(FILE.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(FILE)) {
+                properties.store(out, "Duração dos testes em ms (gerado por DurationHistory)");
+            }
+        } catch (IOException e) {
+            logger.warn("Não foi possível gravar o histórico de durações em {}: {}", FILE, e.getMessage());
+        }
+    }
+
+    /**
+     * @param testClass Classe de teste
+     * @return Chave da classe no histórico
+     */
+    public static String key(Class<?> testClass) {
+        return testClass.getName();
+    }
+
+    /**
+     * @param method Método de teste
+     * @return Chave do método no histórico
+     */
+    public static String key(Method method) {
+        return method.getDeclaringClass().getName() + "#" + method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    /**
+     * @param element Classe ou método
+     * @return true se o elemento tiver @Tag("smoke")
+     */
+    public static boolean isSmoke(AnnotatedElement element) {
+        return AnnotationSupport.findRepeatableAnnotations(element, Tag.class).stream()
+                .anyMatch(tag -> SMOKE.equals(tag.value()));
+    }
+
+    /**
+     * @param testClass Classe de teste
+     * @return true se a classe, um de seus métodos ou uma classe aninhada tiver testes de fumaça
+     */
+    public static boolean containsSmoke(Class<?> testClass) {
+        return isSmoke(testClass)
+                || Arrays.stream(testClass.getDeclaredMethods()).anyMatch(DurationHistory::isSmoke)
+                || Arrays.stream(testClass.getDeclaredClasses()).anyMatch(DurationHistory::containsSmoke);
+    }
+
+    /**
+     * @param testName Teste de fumaça que falhou
+     */
+    public static void smokeFailed(String testName) {
+        if (smokeFailure == null) {
+            smokeFailure = testName;
+        }
+    }
+
+    /**
+     * @return Primeiro teste de fumaça que falhou nesta execução, ou null
+     */
+    public static String smokeFailure() {
+        return smokeFailure;
+    }
+
+    private static Map<String, Long> load() {
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        if (!Files.exists(FILE)) {
+            return durations;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(FILE)) {
+            properties.load(in);
+            properties.forEach((key, value) -> durations.put(key.toString(), Long.parseLong(value.toString().trim())));
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Histórico de durações ignorado ({}): {}", FILE, e.getMessage());
+            durations.clear();
+        }
+        return durations;
+    }
+}
@@ -0,0 +1,59 @@
+package com.desafio.act.tests;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listener do JUnit Platform (registrado via META-INF/services) que mede a duração de cada classe e
+ * método, alimenta o {@link DurationHistory} e sinaliza falhas de testes de fumaça.
+ */
+public class DurationHistoryListener implements TestExecutionListener {
+
+    private static final TestTag SMOKE = TestTag.create("smoke");
+
+    private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        startedAt.put(testIdentifier.getUniqueId(), System.nanoTime());
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        Long start = startedAt.remove(testIdentifier.getUniqueId());
+        String key = testIdentifier.getSource().map(DurationHistoryListener::key).orElse(null);
+        if (start != null && key != null) {
+            DurationHistory.record(key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        if (testIdentifier.isTest() && result.getStatus() == TestExecutionResult.Status.FAILED
+                && testIdentifier.getTags().contains(SMOKE)) {
+            DurationHistory.smokeFailed(testIdentifier.getDisplayName());
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        DurationHistory.save();
+    }
+
+    private static String key(TestSource source) {
+        if (source instanceof MethodSource) {
+            return DurationHistory.key(((MethodSource) source).getJavaMethod());
+        }
+        if (source instanceof ClassSource) {
+            return DurationHistory.key(((ClassSource) source).getJavaClass());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.desafio.act.tests;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Ordena os métodos de cada classe pelo histórico de duração ({@link DurationHistory}): testes de fumaça
+ * primeiro, depois os sem histórico (para serem medidos cedo) e, por fim, do mais longo ao mais curto.
+ * Configurado em junit-platform.properties (junit.jupiter.testmethod.order.default).
+ */
+public class DurationMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        context.getMethodDescriptors().sort(Comparator
+                .comparing((MethodDescriptor descriptor) -> !DurationHistory.isSmoke(descriptor.getMethod()))
+                .thenComparing(descriptor -> DurationHistory.previous(DurationHistory.key(descriptor.getMethod())) >= 0)
+                .thenComparing(descriptor -> DurationHistory.previous(DurationHistory.key(descriptor.getMethod())),
+                        Comparator.reverseOrder()));
+    }
+
+    /**
+     * A ordem define apenas a sequência de submissão: os métodos continuam concorrentes
+     * (o padrão da interface forçaria SAME_THREAD).
+     */
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+}
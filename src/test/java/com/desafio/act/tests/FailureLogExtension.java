@@ -0,0 +1,35 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.utils.ExchangeRecorder;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extensão que publica as trocas HTTP registradas pelo {@link ExchangeRecorder} somente
+ * quando o teste falha: no log, em nível ERROR, e como anexo do Allure.
+ * O buffer da thread é limpo antes de cada teste.
+ */
+public class FailureLogExtension implements BeforeEachCallback, TestWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailureLogExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ExchangeRecorder.clear();
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        if (!ExchangeRecorder.hasExchanges()) {
+            return;
+        }
+        String exchanges = ExchangeRecorder.dump();
+        logger.error("Requisições HTTP do teste com falha {}:\n{}", context.getDisplayName(), exchanges);
+        Allure.addAttachment("Requisições HTTP recentes", "text/plain", exchanges, ".txt");
+        ExchangeRecorder.clear();
+    }
+}
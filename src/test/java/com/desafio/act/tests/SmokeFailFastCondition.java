@@ -0,0 +1,25 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.utils.Config;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Com test.failfast.smoke=true, desativa o restante da suite assim que um teste de fumaça falhar.
+ * Como os testes de fumaça são agendados primeiro ({@link DurationClassOrderer}), a falha costuma ser
+ * detectada antes que os testes mais longos comecem; os que já estiverem em execução terminam normalmente.
+ */
+public class SmokeFailFastCondition implements ExecutionCondition {
+
+    private static final boolean ENABLED = Config.getBoolean("test.failfast.smoke", false);
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        String failure = DurationHistory.smokeFailure();
+        if (ENABLED && failure != null) {
+            return ConditionEvaluationResult.disabled("Suite interrompida: teste de fumaça falhou (" + failure + ")");
+        }
+        return ConditionEvaluationResult.enabled("Nenhum teste de fumaça falhou");
+    }
+}
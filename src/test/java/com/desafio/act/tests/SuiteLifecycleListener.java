@@ -0,0 +1,137 @@
+package com.desafio.act.tests;
+
+import com.desafio.act.utils.AllureAttachmentPipeline;
+import com.desafio.act.utils.Config;
+import com.desafio.act.utils.FixtureUtils;
+import com.desafio.act.utils.HttpUtils;
+import com.desafio.act.utils.LatencyRegression;
+import com.desafio.act.utils.LatencyRegression.Finding;
+import com.desafio.act.utils.LatencyStore;
+import com.desafio.act.utils.SchemaRegistry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Listener do JUnit Platform executado uma vez por execução da suite (registrado via
+ * META-INF/services). Prepara recursos compartilhados no início e publica as
+ * estatísticas dos utilitários ao final, no log e em target/suite-report.txt.
+ */
+public class SuiteLifecycleListener implements TestExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuiteLifecycleListener.class);
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (Config.getBoolean("schema.preload", false)) {
+            SchemaRegistry.preloadAll();
+        }
+        if (Config.getBoolean("fixtures.preload", false)) {
+            try {
+                FixtureUtils.preloadAll();
+            } catch (IOException e) {
+                logger.warn("Falha na pré-carga de fixtures: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        AllureAttachmentPipeline.flush();
+        try {
+            HttpUtils.saveCassette();
+        } catch (IOException e) {
+            logger.warn("Não foi possível gravar o cassete: {}", e.getMessage());
+        }
+        try {
+            HttpUtils.exportMetrics();
+        } catch (IOException e) {
+            logger.warn("Não foi possível exportar as métricas HTTP: {}", e.getMessage());
+        }
+
+        List<String> report = new ArrayList<>();
+        report.add(SchemaRegistry.statistics());
+        report.add(FixtureUtils.statistics());
+        report.add(AllureAttachmentPipeline.statistics());
+        report.add(HttpUtils.transportStatistics());
+        report.add(HttpUtils.throttleStatistics());
+        report.add(HttpUtils.metricsStatistics());
+        report.add(HttpUtils.compressionStatistics());
+        report.add(HttpUtils.streamingStatistics());
+        if (HttpUtils.validatorStatistics() != null) {
+            report.add(HttpUtils.validatorStatistics());
+        }
+        if (HttpUtils.cassetteStatistics() != null) {
+            report.add(HttpUtils.cassetteStatistics());
+        }
+        if (HttpUtils.cacheStatistics() != null) {
+            report.add(HttpUtils.cacheStatistics());
+        }
+
+        if (Config.getBoolean("latency.history.enabled", true)) {
+            recordLatencyHistory(report);
+        }
+
+        report.forEach(line -> logger.info("{}", line));
+        writeReport(report);
+    }
+
+    /**
+     * Acrescenta as latências medidas pelos testes de performance desta execução ao histórico e compara
+     * cada série com sua linha de base.
+     * Regressões só geram aviso aqui; o perfil Maven "latency" roda a mesma verificação e falha o build.
+     */
+    private static void recordLatencyHistory(List<String> report) {
+        Map<String, long[]> samples = HttpUtils.latencySamples();
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        // Latências do servidor substituto e da API real não se misturam na linha de base
+        String environment = Config.getBoolean("stub.server.enabled", false)
+                ? "stub"
+                : URI.create(HttpUtils.getBaseUrl()).getHost();
+        Map<String, long[]> series = new TreeMap<>();
+        samples.forEach((name, nanos) -> series.put(environment + " " + name, nanos));
+
+        LatencyStore store = LatencyStore.fromConfig();
+        try {
+            store.append(Instant.now(), series);
+            List<Finding> findings = LatencyRegression.fromConfig().checkLatest(store);
+            long regressions = findings.stream().filter(Finding::isRegression).count();
+            report.add(String.format("Histórico de latência: %d séries gravadas em %s; %d comparadas, %d regressões",
+                    series.size(), store.getFile(), findings.size(), regressions));
+            findings.stream().filter(Finding::isRegression).forEach(finding -> {
+                logger.warn("Regressão de latência: {}", finding);
+                report.add("  " + finding);
+            });
+        } catch (IOException e) {
+            logger.warn("Não foi possível atualizar o histórico de latência em {}: {}", store.getFile(), e.getMessage());
+        }
+    }
+
+    private static void writeReport(List<String> report) {
+        Path file = Paths.get(Config.get("suite.report.file"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, report, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Não foi possível gravar o relatório da suite em {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.desafio.act.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.AttachmentContent;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.internal.NameAndValue;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Filtro do RestAssured que substitui o AllureRestAssured: as trocas HTTP são registradas no
+ * teste corrente (prepareAttachment) na thread do teste, mas a renderização dos templates e a
+ * escrita dos arquivos acontecem em uma thread de fundo, alimentada por uma fila limitada.
+ * Quando a fila enche, a thread do teste espera (backpressure) em vez de descartar anexos.
+ *
+ * Políticas (allure.attachments.policy):
+ * all - todas as trocas; failures - apenas as trocas de testes que falharam;
+ * sample - uma a cada allure.attachments.sample.rate trocas; slowest - as
+ * allure.attachments.slowest.k trocas mais lentas de cada teste.
+ */
+public class AllureAttachmentPipeline implements Filter {
+
+    /**
+     * Política de amostragem dos anexos.
+     */
+    public enum Policy {
+        ALL, FAILURES, SAMPLE, SLOWEST
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(AllureAttachmentPipeline.class);
+
+    private static final Policy POLICY = parsePolicy(Config.get("allure.attachments.policy"));
+    private static final int SAMPLE_RATE = Math.max(1, Config.getInt("allure.attachments.sample.rate", 10));
+    private static final int SLOWEST_K = Math.max(1, Config.getInt("allure.attachments.slowest.k", 3));
+    private static final int MAX_PER_TEST = Math.max(1, Config.getInt("allure.attachments.max.per.test", 50));
+    private static final long FLUSH_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(
+            Math.max(1, Config.getInt("allure.attachments.flush.timeout.seconds", 30)));
+
+    private static final BlockingQueue<Job> QUEUE =
+            new ArrayBlockingQueue<>(Math.max(1, Config.getInt("allure.attachments.queue.size", 256)));
+    private static final ThreadLocal<TestBuffer> CURRENT_TEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> DETACHED = ThreadLocal.withInitial(() -> false);
+    private static final Object ATTACH_LOCK = new Object();
+
+    private static final Object PENDING_LOCK = new Object();
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final LongAdder submitted = new LongAdder();
+    private static final LongAdder written = new LongAdder();
+    private static final LongAdder skipped = new LongAdder();
+    private static final LongAdder failed = new LongAdder();
+    private static final LongAdder backpressureNanos = new LongAdder();
+    private static final LongAdder writeNanos = new LongAdder();
+    private static long pending;
+
+    static {
+        Thread writer = new Thread(AllureAttachmentPipeline::writeLoop, "allure-attachment-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            // O RestAssured lê o corpo sob demanda e não é seguro para leitura concorrente:
+            // o corpo é materializado aqui, antes de a troca chegar à thread de escrita.
+            response.asByteArray();
+            return response;
+        } finally {
+            capture(new Exchange(requestSpec, response, System.nanoTime() - start, sequence.getAndIncrement()));
+        }
+    }
+
+    /**
+     * @return Política ativa de amostragem
+     */
+    public static Policy getPolicy() {
+        return POLICY;
+    }
+
+    /**
+     * Inicia a coleta das trocas do teste executado na thread atual (políticas failures e slowest).
+     */
+    public static void testStarted() {
+        if (POLICY == Policy.FAILURES || POLICY == Policy.SLOWEST) {
+            CURRENT_TEST.set(new TestBuffer());
+        }
+    }
+
+    /**
+     * Encerra a coleta do teste da thread atual e envia para escrita as trocas selecionadas pela política.
+     * Deve ser chamado enquanto o teste ainda é o teste corrente do Allure.
+     *
+     * @param testFailed true se o teste falhou
+     */
+    public static void testFinished(boolean testFailed) {
+        TestBuffer buffer = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        if (buffer == null) {
+            return;
+        }
+
+        List<Exchange> selected = buffer.selected();
+        if (POLICY == Policy.FAILURES && !testFailed) {
+            skipped.add(selected.size() + buffer.overflow());
+            return;
+        }
+        skipped.add(buffer.overflow());
+        selected.forEach(AllureAttachmentPipeline::submit);
+    }
+
+    /**
+     * Faz a tarefa anexar suas trocas ao teste da thread que chamou este método (teste corrente do
+     * Allure e coleta das políticas por teste). Se não houver teste corrente, as trocas da tarefa
+     * não são anexadas, mesmo que a thread executora tenha atendido outro teste antes. Ao final da
+     * tarefa, a thread executora volta ao teste corrente e à coleta que tinha antes dela.
+     *
+     * @param task Tarefa a ser executada em outra thread
+     * @return Tarefa que usa o contexto de anexos da thread atual
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        TestBuffer buffer = CURRENT_TEST.get();
+        Optional<String> testCase = Allure.getLifecycle().getCurrentTestCase();
+        return () -> {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            TestBuffer previousBuffer = CURRENT_TEST.get();
+            boolean previousDetached = DETACHED.get();
+            Optional<String> previousTestCase = lifecycle.getCurrentTestCase();
+            CURRENT_TEST.set(buffer);
+            DETACHED.set(!testCase.isPresent() || !lifecycle.setCurrentTestCase(testCase.get()));
+            try {
+                return task.get();
+            } finally {
+                CURRENT_TEST.set(previousBuffer);
+                boolean restored = previousTestCase.isPresent() && lifecycle.setCurrentTestCase(previousTestCase.get());
+                // O Allure não permite limpar o teste corrente da thread: sem um teste anterior a restaurar,
+                // a thread fica desligada para não anexar trocas futuras ao teste desta tarefa.
+                DETACHED.set(previousDetached || !restored);
+            }
+        };
+    }
+
+    /**
+     * Aguarda a escrita de todos os anexos já enfileirados.
+     */
+    public static void flush() {
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MS;
+        synchronized (PENDING_LOCK) {
+            while (pending > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    logger.warn("Tempo esgotado aguardando {} anexos do Allure", pending);
+                    return;
+                }
+                try {
+                    PENDING_LOCK.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Resumo de anexos enfileirados, escritos, descartados pela amostragem e tempos de espera e escrita
+     */
+    public static String statistics() {
+        return String.format("Anexos Allure (%s): %d enfileirados, %d escritos, %d falhas, %d não selecionados; "
+                        + "espera por fila cheia %d ms; escrita em segundo plano %d ms",
+                POLICY.name().toLowerCase(Locale.ROOT), submitted.sum(), written.sum(), failed.sum(), skipped.sum(),
+                TimeUnit.NANOSECONDS.toMillis(backpressureNanos.sum()), TimeUnit.NANOSECONDS.toMillis(writeNanos.sum()));
+    }
+
+    private static void capture(Exchange exchange) {
+        switch (POLICY) {
+            case ALL:
+                submit(exchange);
+                break;
+            case SAMPLE:
+                if (exchange.sequence % SAMPLE_RATE == 0) {
+                    submit(exchange);
+                } else {
+                    skipped.increment();
+                }
+                break;
+            default:
+                TestBuffer buffer = CURRENT_TEST.get();
+                if (buffer != null) {
+                    buffer.add(exchange);
+                } else {
+                    skipped.increment();
+                }
+        }
+    }
+
+    private static void submit(Exchange exchange) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (DETACHED.get() || !lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            skipped.increment();
+            return;
+        }
+
+        // O Allure não sincroniza a lista de anexos do teste; requisições assíncronas do mesmo teste
+        // podem chegar aqui ao mesmo tempo.
+        String responseName = exchange.response == null ? "Sem resposta" : exchange.response.getStatusLine();
+        Job job;
+        synchronized (ATTACH_LOCK) {
+            job = new Job(exchange,
+                    lifecycle.prepareAttachment("Request", "text/html", ".html"),
+                    exchange.response == null ? null : lifecycle.prepareAttachment(responseName, "text/html", ".html"));
+        }
+
+        synchronized (PENDING_LOCK) {
+            pending++;
+        }
+        submitted.increment();
+        long start = System.nanoTime();
+        try {
+            if (!QUEUE.offer(job)) {
+                QUEUE.put(job);
+                backpressureNanos.add(System.nanoTime() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completed();
+        }
+    }
+
+    private static void writeLoop() {
+        FreemarkerAttachmentRenderer requestRenderer = new FreemarkerAttachmentRenderer("http-request.ftl");
+        FreemarkerAttachmentRenderer responseRenderer = new FreemarkerAttachmentRenderer("http-response.ftl");
+        Prettifier prettifier = new Prettifier();
+
+        while (true) {
+            Job job;
+            try {
+                job = QUEUE.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                write(job.requestSource, requestRenderer.render(requestAttachment(job.exchange, prettifier)));
+                if (job.responseSource != null) {
+                    write(job.responseSource, responseRenderer.render(responseAttachment(job.exchange, prettifier)));
+                }
+                written.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                logger.warn("Falha ao escrever anexo do Allure: {}", e.getMessage());
+            } finally {
+                writeNanos.add(System.nanoTime() - start);
+                completed();
+            }
+        }
+    }
+
+    private static void write(String source, AttachmentContent content) {
+        Allure.getLifecycle().writeAttachment(source,
+                new ByteArrayInputStream(content.getContent().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void completed() {
+        synchronized (PENDING_LOCK) {
+            pending--;
+            PENDING_LOCK.notifyAll();
+        }
+    }
+
+    private static HttpRequestAttachment requestAttachment(Exchange exchange, Prettifier prettifier) {
+        FilterableRequestSpecification request = exchange.request;
+        HttpRequestAttachment.Builder builder = HttpRequestAttachment.Builder.create("Request", request.getURI())
+                .setMethod(request.getMethod())
+                .setHeaders(toMap(request.getHeaders()))
+                .setCookies(toMap(request.getCookies()));
+        if (request.getBody() != null) {
+            builder.setBody(prettifier.getPrettifiedBodyIfPossible(request));
+        }
+        return builder.build();
+    }
+
+    private static HttpResponseAttachment responseAttachment(Exchange exchange, Prettifier prettifier) {
+        Response response = exchange.response;
+        return HttpResponseAttachment.Builder.create(response.getStatusLine())
+                .setResponseCode(response.getStatusCode())
+                .setHeaders(toMap(response.getHeaders()))
+                .setBody(prettifier.getPrettifiedBodyIfPossible(response, response.getBody()))
+                .build();
+    }
+
+    private static Map<String, String> toMap(Iterable<? extends NameAndValue> items) {
+        Map<String, String> map = new HashMap<>();
+        items.forEach(item -> map.put(item.getName(), item.getValue()));
+        return map;
+    }
+
+    private static Policy parsePolicy(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Policy.ALL;
+        }
+        try {
+            return Policy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Política de anexos inválida: " + value
+                    + " (use all, failures, sample ou slowest)", e);
+        }
+    }
+
+    private static final class Exchange {
+        final FilterableRequestSpecification request;
+        final Response response;
+        final long elapsedNanos;
+        final long sequence;
+
+        Exchange(FilterableRequestSpecification request, Response response, long elapsedNanos, long sequence) {
+            this.request = request;
+            this.response = response;
+            this.elapsedNanos = elapsedNanos;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class Job {
+        final Exchange exchange;
+        final String requestSource;
+        final String responseSource;
+
+        Job(Exchange exchange, String requestSource, String responseSource) {
+            this.exchange = exchange;
+            this.requestSource = requestSource;
+            this.responseSource = responseSource;
+        }
+    }
+
+    /**
+     * Trocas candidatas de um teste: as últimas MAX_PER_TEST (failures) ou as SLOWEST_K mais lentas (slowest).
+     */
+    private static final class TestBuffer {
+        final ArrayDeque<Exchange> recent = new ArrayDeque<>();
+        final PriorityQueue<Exchange> slowest = new PriorityQueue<>(Comparator.comparingLong(e -> e.elapsedNanos));
+        int overflow;
+
+        synchronized int overflow() {
+            return overflow;
+        }
+
+        synchronized void add(Exchange exchange) {
+            if (POLICY == Policy.SLOWEST) {
+                slowest.add(exchange);
+                if (slowest.size() > SLOWEST_K) {
+                    slowest.poll();
+                    overflow++;
+                }
+            } else {
+                recent.addLast(exchange);
+                if (recent.size() > MAX_PER_TEST) {
+                    recent.removeFirst();
+                    overflow++;
+                }
+            }
+        }
+
+        synchronized List<Exchange> selected() {
+            List<Exchange> selected = new ArrayList<>(POLICY == Policy.SLOWEST ? slowest : recent);
+            selected.sort(Comparator.comparingLong(e -> e.sequence));
+            return selected;
+        }
+    }
+}
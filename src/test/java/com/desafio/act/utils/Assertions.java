@@ -1,12 +1,13 @@
 package com.desafio.act.utils;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchema;
+import com.desafio.act.utils.LatencyMeter.LatencyResult;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import io.qameta.allure.Allure;
 import io.restassured.response.Response;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Assertions {
 
@@ -48,21 +49,23 @@ public class Assertions {
 
     /**
      * Valida o contrato da API comparando a resposta com um JSON schema.
+     * O schema é compilado uma única vez e reutilizado via {@link SchemaRegistry}.
      *
      * @param response       Response da requisição HTTP
      * @param schemaFileName Nome do arquivo JSON schema em resources/response/
      * @param message        Mensagem de erro caso a validação falhe
      */
     public static void validateApiContract(Response response, String schemaFileName, String message) {
+        ProcessingReport report;
         try {
-            // Carrega o schema JSON do arquivo em resources/response/
-            String schemaJson = loadJsonSchema(schemaFileName);
-
-            // Valida se a resposta corresponde ao schema
-            response.then().assertThat().body(matchesJsonSchema(schemaJson));
-
+            report = SchemaRegistry.validate(schemaFileName, response.asString());
         } catch (Exception e) {
             fail(message + " - Erro na validação do schema: " + e.getMessage());
+            return;
+        }
+
+        if (!report.isSuccess()) {
+            fail(message + " - Erro na validação do schema: " + report);
         }
     }
 
@@ -78,21 +81,29 @@ public class Assertions {
     }
 
     /**
-     * Carrega um arquivo JSON schema do diretório resources/response/.
+     * Valida os percentis de uma medição contra o orçamento de latência.
+     * O histograma completo é anexado ao resultado do Allure, passando ou não.
      *
-     * @param fileName Nome do arquivo JSON schema
-     * @return Conteúdo do arquivo como String
-     * @throws IOException Se houver erro ao ler o arquivo
+     * @param result Resultado da medição
+     * @param budget Orçamento de latência esperado
      */
-    private static String loadJsonSchema(String fileName) throws IOException {
-        String resourcePath = "response/" + fileName;
+    public static void verifyLatencyBudget(LatencyResult result, LatencyBudget budget) {
+        Allure.addAttachment("Histograma de latência - " + result.getName(), "text/plain", result.render());
 
-        try (InputStream inputStream = Assertions.class.getClassLoader().getResourceAsStream(resourcePath)) {
-            if (inputStream == null) {
-                throw new IOException("Arquivo de schema não encontrado: " + resourcePath);
-            }
+        List<String> violations = new ArrayList<>();
+        checkBudget(violations, "p50", result.percentileMillis(50), budget.getP50Millis());
+        checkBudget(violations, "p95", result.percentileMillis(95), budget.getP95Millis());
+        checkBudget(violations, "p99", result.percentileMillis(99), budget.getP99Millis());
+        checkBudget(violations, "max", result.maxMillis(), budget.getMaxMillis());
+
+        if (!violations.isEmpty()) {
+            fail("Orçamento de latência excedido para " + result.getName() + ": " + String.join(", ", violations));
+        }
+    }
 
-            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    private static void checkBudget(List<String> violations, String percentile, double actualMillis, long limitMillis) {
+        if (actualMillis > limitMillis) {
+            violations.add(String.format("%s=%.1fms (limite %dms)", percentile, actualMillis, limitMillis));
         }
     }
 }
@@ -0,0 +1,403 @@
+package com.desafio.act.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Grava e reproduz trocas HTTP em um arquivo de cassete, chaveadas por método, endpoint e hash do body.
+ * Registrado como penúltimo filtro da especificação base: os filtros de log e anexos continuam vendo as
+ * trocas reproduzidas, e o transporte só é acionado quando a troca precisa ir ao servidor.
+ *
+ * Modos (http.cassette.mode):
+ * - passthrough: desativado;
+ * - record: envia tudo ao servidor e regrava o cassete com as trocas desta execução;
+ * - replay: reproduz do cassete e falha em requisições sem gravação;
+ * - record-missing: reproduz o que existir e grava o que faltar; a partir da primeira gravação, as
+ *   requisições idênticas da mesma execução também são reproduzidas.
+ *
+ * O header {@value ValidatorCache#REVALIDATED_HEADER} não é gravado: a reprodução não passa pelo servidor,
+ * e a resposta reproduzida não deve parecer uma revalidação.
+ *
+ * Formato do arquivo (big-endian), lido por mapeamento em memória:
+ * cabeçalho [magic 8][versão 4][entradas 4][offset do índice 8], registros
+ * [status 4][latência ns 8][linha de status][qtd. headers 2]{[nome][valor]}[tamanho do body 4][body]
+ * e o índice {[chave][offset do registro 8]}. Textos são gravados como [tamanho 2][UTF-8].
+ */
+public class Cassette implements OrderedFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(Cassette.class);
+    private static final long MAGIC = 0x444F474341533031L; // "DOGCAS01"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+
+    /**
+     * Modos de operação do cassete.
+     */
+    public enum Mode {
+        PASSTHROUGH, RECORD, REPLAY, RECORD_MISSING;
+
+        static Mode parse(String value) {
+            return value == null || value.isBlank()
+                    ? PASSTHROUGH
+                    : valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private final Mode mode;
+    private final Path file;
+    private final boolean replayLatency;
+    private final int maxPerKey;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final Map<String, List<Recording>> recorded = new LinkedHashMap<>();
+    private MappedByteBuffer mapped;
+    private int loadedEntries;
+
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder recordings = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder replayNanos = new LongAdder();
+
+    /**
+     * @param mode          Modo de operação
+     * @param file          Arquivo do cassete
+     * @param replayLatency Se true, a reprodução aguarda a latência gravada
+     * @param maxPerKey     Máximo de respostas gravadas por chave (reproduzidas em rodízio)
+     */
+    public Cassette(Mode mode, Path file, boolean replayLatency, int maxPerKey) {
+        this.mode = mode;
+        this.file = file;
+        this.replayLatency = replayLatency;
+        this.maxPerKey = Math.max(1, maxPerKey);
+        if ((mode == Mode.REPLAY || mode == Mode.RECORD_MISSING) && Files.exists(file)) {
+            load();
+        } else if (mode == Mode.REPLAY) {
+            throw new IllegalArgumentException("Cassete não encontrado para o modo replay: " + file);
+        }
+    }
+
+    /**
+     * Cria o cassete a partir das propriedades http.cassette.* do test.properties.
+     *
+     * @return Cassete configurado
+     */
+    public static Cassette fromConfig() {
+        return new Cassette(
+                Mode.parse(Config.get("http.cassette.mode")),
+                Paths.get(Config.get("http.cassette.file")),
+                Config.getBoolean("http.cassette.replay.latency", false),
+                Config.getInt("http.cassette.max.per.key", 16));
+    }
+
+    /**
+     * @return true se o cassete participa das requisições (modo diferente de passthrough)
+     */
+    public boolean isActive() {
+        return mode != Mode.PASSTHROUGH;
+    }
+
+    /**
+     * @return true se parte das respostas vem do cassete (replay e record-missing), com latências que não
+     * refletem a API
+     */
+    public boolean servesRecordings() {
+        return mode == Mode.REPLAY || mode == Mode.RECORD_MISSING;
+    }
+
+    /**
+     * Indica se a requisição será atendida pelo cassete, sem ir ao servidor.
+     *
+     * @param method Método HTTP
+     * @param endpoint Endpoint da requisição
+     * @param body Body da requisição (pode ser null)
+     * @return true se a requisição será reproduzida
+     */
+    public boolean replays(String method, String endpoint, Object body) {
+        return mode == Mode.REPLAY || (mode == Mode.RECORD_MISSING && slots.containsKey(key(method, endpoint, body)));
+    }
+
+    @Override
+    public int getOrder() {
+        // Antes do ValidatorCache, do ContentEncodingFilter e de um transporte terminal (ex.: JdkHttpTransport):
+        // grava a resposta já resolvida e descomprimida
+        return LOWEST_PRECEDENCE - 3;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (mode == Mode.PASSTHROUGH) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String key = key(requestSpec.getMethod(), requestSpec.getUserDefinedPath(), requestSpec.getBody());
+        Slot slot = slots.get(key);
+        if (slot != null && mode != Mode.RECORD) {
+            return replay(slot);
+        }
+        if (mode == Mode.REPLAY) {
+            misses.increment();
+            throw new IllegalStateException("Requisição sem gravação no cassete " + file + ": " + key);
+        }
+
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long latency = System.nanoTime() - start;
+
+        List<Header> headers = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            if (!header.getName().equalsIgnoreCase(ValidatorCache.REVALIDATED_HEADER)) {
+                headers.add(header);
+            }
+        }
+        record(key, new Recording(response.getStatusCode(), response.getStatusLine(), latency, headers, response.asByteArray()));
+        return response;
+    }
+
+    /**
+     * Grava o cassete em disco (arquivo temporário seguido de troca atômica), se houver trocas novas.
+     *
+     * @throws IOException se o arquivo não puder ser gravado
+     */
+    public synchronized void save() throws IOException {
+        if (recorded.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Recording>> entries = new LinkedHashMap<>();
+        if (mode == Mode.RECORD_MISSING && mapped != null) {
+            slots.forEach((key, slot) -> slot.offsets.forEach(offset ->
+                    entries.computeIfAbsent(key, k -> new ArrayList<>()).add(decode(offset))));
+        }
+        recorded.forEach((key, recordings) -> entries.computeIfAbsent(key, k -> new ArrayList<>()).addAll(recordings));
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(records);
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream indexOut = new DataOutputStream(index);
+        int count = 0;
+        for (Map.Entry<String, List<Recording>> entry : entries.entrySet()) {
+            for (Recording recording : entry.getValue()) {
+                writeText(indexOut, entry.getKey());
+                indexOut.writeLong(HEADER_SIZE + recordOut.size());
+                recording.writeTo(recordOut);
+                count++;
+            }
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeLong(MAGIC);
+            header.writeInt(VERSION);
+            header.writeInt(count);
+            header.writeLong(HEADER_SIZE + (long) records.size());
+            records.writeTo(out);
+            index.writeTo(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Cassete gravado em {} com {} trocas", file, count);
+    }
+
+    /**
+     * @return Resumo de trocas reproduzidas, gravadas e ausentes
+     */
+    public String statistics() {
+        return String.format(Locale.ROOT, "Cassete (%s): %d reproduzidas em %d ms, %d gravadas, %d sem gravação; "
+                        + "%d trocas carregadas de %s",
+                mode.name().toLowerCase(Locale.ROOT).replace('_', '-'), replays.sum(),
+                TimeUnit.NANOSECONDS.toMillis(replayNanos.sum()), recordings.sum(), misses.sum(), loadedEntries, file);
+    }
+
+    static String key(String method, String endpoint, Object body) {
+        String path = endpoint == null ? "/" : endpoint.trim();
+        if (!path.startsWith("/")) {
+            path = "/" + path;
+        }
+        String text = body == null ? "" : body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+        return method.toUpperCase(Locale.ROOT) + " " + path + " " + (text.isEmpty() ? "-" : hash(text));
+    }
+
+    private static String hash(String body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private Response replay(Slot slot) {
+        long start = System.nanoTime();
+        Recording recording = slot.next(this);
+        if (replayLatency && recording.latencyNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(recording.latencyNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Reprodução do cassete interrompida", e);
+            }
+        }
+
+        Headers headers = new Headers(recording.headers);
+        Response response = new ResponseBuilder()
+                .setStatusCode(recording.status)
+                .setStatusLine(recording.statusLine)
+                .setHeaders(headers)
+                .setContentType(headers.hasHeaderWithName("Content-Type") ? headers.getValue("Content-Type") : "")
+                .setBody(recording.body)
+                .build();
+        replays.increment();
+        replayNanos.add(System.nanoTime() - start);
+        return response;
+    }
+
+    private synchronized void record(String key, Recording recording) {
+        recordings.increment();
+        List<Recording> sameKey = recorded.computeIfAbsent(key, k -> new ArrayList<>());
+        if (sameKey.size() < maxPerKey) {
+            sameKey.add(recording);
+            if (mode == Mode.RECORD_MISSING) {
+                slots.computeIfAbsent(key, k -> new Slot()).recorded.add(recording);
+            }
+        }
+    }
+
+    private void load() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível abrir o cassete " + file, e);
+        }
+
+        ByteBuffer buffer = mapped.duplicate();
+        if (buffer.remaining() < HEADER_SIZE || buffer.getLong() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalStateException("Arquivo de cassete inválido ou de outra versão: " + file);
+        }
+        loadedEntries = buffer.getInt();
+        buffer.position(Math.toIntExact(buffer.getLong()));
+        for (int i = 0; i < loadedEntries; i++) {
+            String key = readText(buffer);
+            int offset = Math.toIntExact(buffer.getLong());
+            slots.computeIfAbsent(key, k -> new Slot()).offsets.add(offset);
+        }
+        logger.debug("Cassete {} carregado: {} trocas em {} chaves", file, loadedEntries, slots.size());
+    }
+
+    private Recording decode(int offset) {
+        ByteBuffer buffer = mapped.duplicate();
+        buffer.position(offset);
+        int status = buffer.getInt();
+        long latency = buffer.getLong();
+        String statusLine = readText(buffer);
+        int headerCount = buffer.getShort() & 0xFFFF;
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(readText(buffer), readText(buffer)));
+        }
+        byte[] body = new byte[buffer.getInt()];
+        buffer.get(body);
+        return new Recording(status, statusLine, latency, headers, body);
+    }
+
+    private static String readText(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("Texto longo demais para o cassete: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Trocas gravadas de uma chave, reproduzidas em rodízio (ex.: imagens aleatórias distintas): as lidas do
+     * arquivo, pelo offset, seguidas das gravadas nesta execução (modo record-missing).
+     */
+    private static final class Slot {
+        final List<Integer> offsets = new ArrayList<>();
+        final List<Recording> recorded = new CopyOnWriteArrayList<>();
+        final AtomicInteger cursor = new AtomicInteger();
+
+        Recording next(Cassette cassette) {
+            int loaded = offsets.size();
+            int position = Math.floorMod(cursor.getAndIncrement(), loaded + recorded.size());
+            return position < loaded ? cassette.decode(offsets.get(position)) : recorded.get(position - loaded);
+        }
+    }
+
+    private static final class Recording {
+        final int status;
+        final String statusLine;
+        final long latencyNanos;
+        final List<Header> headers;
+        final byte[] body;
+
+        Recording(int status, String statusLine, long latencyNanos, List<Header> headers, byte[] body) {
+            this.status = status;
+            this.statusLine = statusLine == null ? "HTTP/1.1 " + status : statusLine;
+            this.latencyNanos = latencyNanos;
+            this.headers = headers;
+            this.body = body == null ? new byte[0] : body;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(status);
+            out.writeLong(latencyNanos);
+            writeText(out, statusLine);
+            out.writeShort(headers.size());
+            for (Header header : headers) {
+                writeText(out, header.getName());
+                writeText(out, header.getValue());
+            }
+            out.writeInt(body.length);
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.desafio.act.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Gravação e reprodução do {@link Cassette} contra um servidor local que ecoa o body recebido.
+ */
+@DisplayName("Cassete de trocas HTTP")
+public class CassetteTest {
+
+    private static final String ENDPOINT = "/eco";
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger hits = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(ENDPOINT, exchange -> {
+            byte[] body = ("eco " + hits.incrementAndGet() + ": "
+                    + new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain");
+            // Simula uma resposta servida pelo ValidatorCache, que fica depois do cassete na cadeia
+            exchange.getResponseHeaders().set(ValidatorCache.REVALIDATED_HEADER, "revalidated");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Reproduz do arquivo as respostas gravadas, chaveadas pelo hash do body")
+    public void deveReproduzirGravacaoPeloHashDoBody(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("eco.cassette");
+        Cassette recorder = new Cassette(Cassette.Mode.RECORD, file, false, 4);
+        Response recorded = post(recorder, "{\"raca\":\"hound\"}");
+        post(recorder, "{\"raca\":\"akita\"}");
+        recorder.save();
+        Assertions.verifyEquality(2, hits.get(), "A gravação deve enviar as duas requisições ao servidor");
+        Assertions.verifyTrue(recorded.getHeader(ValidatorCache.REVALIDATED_HEADER) != null,
+                "Na gravação, a resposta repassada ao teste fica intacta");
+
+        Cassette player = new Cassette(Cassette.Mode.REPLAY, file, false, 4);
+        Response hound = post(player, "{\"raca\":\"hound\"}");
+        Response akita = post(player, "{\"raca\":\"akita\"}");
+
+        Assertions.verifyEquality(2, hits.get(), "A reprodução não deve ir ao servidor");
+        Assertions.verifyEquality("eco 1: {\"raca\":\"hound\"}", hound.asString(), "Body reproduzido da primeira troca");
+        Assertions.verifyEquality("eco 2: {\"raca\":\"akita\"}", akita.asString(), "Body reproduzido da segunda troca");
+        Assertions.verifyEquality("text/plain", hound.getContentType(), "Content-Type reproduzido");
+        Assertions.verifyEquality(null, hound.getHeader(ValidatorCache.REVALIDATED_HEADER),
+                "A marca de revalidação não deve ser gravada");
+        assertThrows(IllegalStateException.class, () -> post(player, "{\"raca\":\"pug\"}"),
+                "Body sem gravação deve falhar no modo replay");
+    }
+
+    @Test
+    @DisplayName("No modo record-missing, reproduz na mesma execução o que acabou de gravar")
+    public void deveReproduzirGravacaoNaMesmaExecucao(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("eco.cassette");
+        Cassette cassette = new Cassette(Cassette.Mode.RECORD_MISSING, file, false, 4);
+
+        Response first = post(cassette, "{\"raca\":\"hound\"}");
+        Response second = post(cassette, "{\"raca\":\"hound\"}");
+
+        Assertions.verifyEquality(1, hits.get(), "A segunda requisição idêntica deve ser reproduzida");
+        Assertions.verifyEquality(first.asString(), second.asString(), "A reprodução devolve o body gravado");
+        Assertions.verifyTrue(cassette.replays("POST", ENDPOINT, "{\"raca\":\"hound\"}"),
+                "A chave gravada passa a ser reproduzida");
+
+        cassette.save();
+        Cassette reloaded = new Cassette(Cassette.Mode.RECORD_MISSING, file, false, 4);
+        post(reloaded, "{\"raca\":\"hound\"}");
+        Assertions.verifyEquality(1, hits.get(), "A gravação salva deve ser reproduzida pelo arquivo mapeado");
+    }
+
+    private Response post(Cassette cassette, String body) {
+        return RestAssured.given().filter(cassette).baseUri(baseUrl).body(body).post(ENDPOINT);
+    }
+}
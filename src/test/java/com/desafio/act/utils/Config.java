@@ -6,6 +6,7 @@ import java.util.Properties;
 
 /**
  * Classe utilitária para carregar propriedades do arquivo test.properties.
+ * Propriedades de sistema (-Dchave=valor ou perfis Maven) têm precedência sobre o arquivo.
  */
 public class Config {
 
@@ -29,6 +30,42 @@ public class Config {
      * @return Valor da propriedade, ou null se a chave não existir.
      */
     public static String get(String chave) {
-        return propriedades.getProperty(chave);
+        return System.getProperty(chave, propriedades.getProperty(chave));
+    }
+
+    /**
+     * Recupera o valor inteiro associado a uma chave.
+     *
+     * @param chave  Chave da propriedade a ser buscada.
+     * @param padrao Valor usado quando a chave não existir.
+     * @return Valor da propriedade convertido para inteiro.
+     */
+    public static int getInt(String chave, int padrao) {
+        String valor = get(chave);
+        return valor == null || valor.isBlank() ? padrao : Integer.parseInt(valor.trim());
+    }
+
+    /**
+     * Recupera o valor booleano associado a uma chave.
+     *
+     * @param chave  Chave da propriedade a ser buscada.
+     * @param padrao Valor usado quando a chave não existir.
+     * @return Valor da propriedade convertido para booleano.
+     */
+    public static boolean getBoolean(String chave, boolean padrao) {
+        String valor = get(chave);
+        return valor == null || valor.isBlank() ? padrao : Boolean.parseBoolean(valor.trim());
+    }
+
+    /**
+     * Recupera o valor decimal associado a uma chave.
+     *
+     * @param chave  Chave da propriedade a ser buscada.
+     * @param padrao Valor usado quando a chave não existir.
+     * @return Valor da propriedade convertido para double.
+     */
+    public static double getDouble(String chave, double padrao) {
+        String valor = get(chave);
+        return valor == null || valor.isBlank() ? padrao : Double.parseDouble(valor.trim());
     }
 }
@@ -0,0 +1,298 @@
+package com.desafio.act.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Negocia a compressão das respostas (Accept-Encoding) e faz a descompressão no lugar do cliente HTTP,
+ * para medir bytes na rede, bytes decodificados e tempo de descompressão de cada troca.
+ * Registrado imediatamente antes do transporte; os decodificadores do RestAssured ficam desativados
+ * ({@link RestAssuredTransport}) e o java.net.http não descomprime, então o body chega aqui como veio da rede.
+ *
+ * Codificações (http.accept.encoding): gzip, deflate e br, esta última só quando um decodificador
+ * Brotli (org.brotli.dec.BrotliInputStream) estiver no classpath. Com http.compression.compare=true,
+ * cada requisição de um endpoint oferece uma opção diferente (identity e cada codificação, em rodízio),
+ * e o relatório indica a de menor tempo ponta a ponta por endpoint. Codificações empilhadas
+ * (ex.: "Content-Encoding: deflate, gzip") são desfeitas da última para a primeira; identity é ignorada.
+ *
+ * Limitação: o transporte entrega o body já lido por inteiro, então a descompressão parte de um array em
+ * memória e produz um segundo array (comprimido e decodificado coexistem até o fim do filtro). O tempo de
+ * descompressão medido é o de inflar em memória, sem a espera pela rede; esta fica no tempo ponta a ponta.
+ */
+public class ContentEncodingFilter implements OrderedFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentEncodingFilter.class);
+    private static final String IDENTITY = "identity";
+    private static final String BROTLI_DECODER = "org.brotli.dec.BrotliInputStream";
+
+    private final List<String> offers;
+    private final Map<String, AtomicInteger> rotation = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, EncodingStats>> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @param encodings Codificações aceitas, em ordem de preferência
+     * @param compare   Se true, alterna entre identity e cada codificação em vez de oferecer todas juntas
+     */
+    public ContentEncodingFilter(List<String> encodings, boolean compare) {
+        List<String> supported = new ArrayList<>();
+        for (String encoding : encodings) {
+            String name = encoding.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty() || name.equals(IDENTITY)) {
+                continue;
+            }
+            if (!name.equals("gzip") && !name.equals("deflate") && !name.equals("br")) {
+                throw new IllegalArgumentException("Codificação não suportada em http.accept.encoding: " + name);
+            }
+            if (name.equals("br") && brotliDecoder() == null) {
+                logger.warn("Brotli ignorado: {} não está no classpath", BROTLI_DECODER);
+                continue;
+            }
+            supported.add(name);
+        }
+
+        this.offers = new ArrayList<>();
+        if (compare) {
+            offers.add(IDENTITY);
+            offers.addAll(supported);
+        } else {
+            offers.add(supported.isEmpty() ? IDENTITY : String.join(", ", supported));
+        }
+    }
+
+    /**
+     * Cria o filtro a partir de http.accept.encoding e http.compression.compare.
+     *
+     * @return Filtro configurado
+     */
+    public static ContentEncodingFilter fromConfig() {
+        String configured = Config.get("http.accept.encoding");
+        return new ContentEncodingFilter(
+                configured == null ? List.of() : List.of(configured.split(",")),
+                Config.getBoolean("http.compression.compare", false));
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = EndpointTemplates.of(requestSpec.getUserDefinedPath());
+
+        // Accept-Encoding definido pelo próprio teste é respeitado
+        String offer = requestSpec.getHeaders().getValue("Accept-Encoding");
+        if (offer == null) {
+            offer = offers.size() == 1
+                    ? offers.get(0)
+                    : offers.get(Math.floorMod(rotation.computeIfAbsent(endpoint, key -> new AtomicInteger())
+                            .getAndIncrement(), offers.size()));
+            requestSpec.header("Accept-Encoding", offer);
+        }
+
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        byte[] wire = response.asByteArray();
+
+        // Sem body não há o que decodificar: um 304 (ou 204, ou HEAD) mantém o Content-Encoding da
+        // representação, e tentar descomprimir zero bytes falharia
+        if (wire.length == 0 || !hasBody(requestSpec.getMethod(), response.getStatusCode())) {
+            return response;
+        }
+
+        List<String> codings = codings(response.getHeader("Content-Encoding"));
+        long decodeStart = System.nanoTime();
+        byte[] decoded = codings.isEmpty() ? wire : decode(wire, codings);
+        long end = System.nanoTime();
+
+        stats.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(offer, key -> new EncodingStats())
+                .add(wire.length, decoded.length, end - decodeStart, end - start);
+
+        if (decoded == wire) {
+            return response;
+        }
+
+        List<Header> headers = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (!name.equals("content-encoding") && !name.equals("content-length")) {
+                headers.add(header);
+            }
+        }
+        headers.add(new Header("Content-Length", String.valueOf(decoded.length)));
+        return new ResponseBuilder()
+                .clone(response)
+                .setHeaders(new Headers(headers))
+                .setBody(decoded)
+                .build();
+    }
+
+    private static boolean hasBody(String method, int status) {
+        return !"HEAD".equalsIgnoreCase(method) && status >= 200 && status != 204 && status != 304;
+    }
+
+    /**
+     * @return Bytes na rede versus decodificados, tempo de descompressão e tempo médio ponta a ponta
+     * por endpoint e opção de Accept-Encoding
+     */
+    public String statistics() {
+        long responses = 0;
+        long wire = 0;
+        long decoded = 0;
+        long decodeNanos = 0;
+        StringBuilder perEndpoint = new StringBuilder();
+
+        for (Map.Entry<String, Map<String, EncodingStats>> endpoint : new TreeMap<>(stats).entrySet()) {
+            String fastest = null;
+            double fastestMillis = Double.MAX_VALUE;
+            for (Map.Entry<String, EncodingStats> entry : endpoint.getValue().entrySet()) {
+                double average = entry.getValue().averageMillis();
+                if (average < fastestMillis) {
+                    fastestMillis = average;
+                    fastest = entry.getKey();
+                }
+            }
+
+            for (Map.Entry<String, EncodingStats> entry : new TreeMap<>(endpoint.getValue()).entrySet()) {
+                EncodingStats encoding = entry.getValue();
+                responses += encoding.responses.sum();
+                wire += encoding.wireBytes.sum();
+                decoded += encoding.decodedBytes.sum();
+                decodeNanos += encoding.decodeNanos.sum();
+                perEndpoint.append(String.format(Locale.ROOT, "%n  %s [%s]: %d respostas, %d KiB na rede, "
+                                + "%d KiB decodificados, descompressão %d ms, média ponta a ponta %.2f ms%s",
+                        endpoint.getKey(), entry.getKey(), encoding.responses.sum(), encoding.wireBytes.sum() / 1024,
+                        encoding.decodedBytes.sum() / 1024, TimeUnit.NANOSECONDS.toMillis(encoding.decodeNanos.sum()),
+                        encoding.averageMillis(),
+                        endpoint.getValue().size() > 1 && entry.getKey().equals(fastest) ? " (mais rápida)" : ""));
+            }
+        }
+
+        return String.format(Locale.ROOT, "Compressão (Accept-Encoding: %s): %d respostas, %d KiB na rede, "
+                        + "%d KiB decodificados (%.1fx), descompressão %d ms%s",
+                String.join(" | ", offers), responses, wire / 1024, decoded / 1024,
+                wire == 0 ? 1.0 : (double) decoded / wire, TimeUnit.NANOSECONDS.toMillis(decodeNanos), perEndpoint);
+    }
+
+    /**
+     * @return Codificações do header Content-Encoding, na ordem em que foram aplicadas, sem identity
+     */
+    private static List<String> codings(String contentEncoding) {
+        List<String> codings = new ArrayList<>();
+        if (contentEncoding != null) {
+            for (String coding : contentEncoding.split(",")) {
+                String name = coding.trim().toLowerCase(Locale.ROOT);
+                if (!name.isEmpty() && !name.equals(IDENTITY)) {
+                    codings.add(name);
+                }
+            }
+        }
+        return codings;
+    }
+
+    private static byte[] decode(byte[] wire, List<String> codings) {
+        InputStream in = new ByteArrayInputStream(wire);
+        try {
+            // A última codificação aplicada é a primeira a ser desfeita
+            for (int i = codings.size() - 1; i >= 0; i--) {
+                in = decoder(in, codings.get(i));
+            }
+            try (InputStream decoded = in) {
+                return decoded.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao descomprimir resposta " + String.join(", ", codings), e);
+        }
+    }
+
+    private static InputStream decoder(InputStream raw, String encoding) throws IOException {
+        switch (encoding) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(raw, 8192);
+            case "deflate":
+                // "deflate" deveria ter o envelope zlib, mas alguns servidores enviam o fluxo cru
+                InputStream buffered = new BufferedInputStream(raw, 8192);
+                return new InflaterInputStream(buffered, new Inflater(!hasZlibHeader(buffered)), 8192);
+            case "br":
+                Constructor<?> brotli = brotliDecoder();
+                if (brotli == null) {
+                    throw new IOException("Resposta em Brotli sem decodificador no classpath");
+                }
+                try {
+                    return (InputStream) brotli.newInstance(raw);
+                } catch (ReflectiveOperationException e) {
+                    throw new IOException("Falha ao criar o decodificador Brotli", e);
+                }
+            default:
+                throw new IOException("Content-Encoding não suportado: " + encoding);
+        }
+    }
+
+    private static boolean hasZlibHeader(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return second >= 0 && (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0;
+    }
+
+    private static Constructor<?> brotliDecoder() {
+        try {
+            return Class.forName(BROTLI_DECODER).getConstructor(InputStream.class);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static final class EncodingStats {
+        final LongAdder responses = new LongAdder();
+        final LongAdder wireBytes = new LongAdder();
+        final LongAdder decodedBytes = new LongAdder();
+        final LongAdder decodeNanos = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+
+        void add(long wire, long decoded, long decode, long total) {
+            responses.increment();
+            wireBytes.add(wire);
+            decodedBytes.add(decoded);
+            decodeNanos.add(decode);
+            totalNanos.add(total);
+        }
+
+        double averageMillis() {
+            long count = responses.sum();
+            return count == 0 ? 0 : totalNanos.sum() / 1e6 / count;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.desafio.act.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Descompressão do {@link ContentEncodingFilter} para codificações simples, com identity e empilhadas.
+ */
+@DisplayName("Descompressão das respostas")
+public class ContentEncodingFilterTest {
+
+    private static final String BODY = "{\"message\":[\"affenpinscher\",\"african\",\"airedale\"],\"status\":\"success\"}";
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            // O próprio path é o Content-Encoding a aplicar, na ordem de aplicação
+            String contentEncoding = exchange.getRequestURI().getPath().substring(1).replace('+', ' ');
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            for (String coding : contentEncoding.split(",")) {
+                body = encode(body, coding.trim());
+            }
+            exchange.getResponseHeaders().set("Content-Encoding", contentEncoding);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Ignora identity junto de outra codificação")
+    public void deveIgnorarIdentity() {
+        Response response = get("gzip,+identity");
+
+        Assertions.verifyEquality(BODY, response.asString(), "O body deve ser descomprimido");
+        Assertions.verifyEquality(null, response.getHeader("Content-Encoding"), "O Content-Encoding deve ser removido");
+    }
+
+    @Test
+    @DisplayName("Desfaz codificações empilhadas da última para a primeira")
+    public void deveDesfazerCodificacoesEmpilhadas() {
+        Assertions.verifyEquality(BODY, get("deflate,+gzip").asString(), "deflate seguido de gzip");
+        Assertions.verifyEquality(BODY, get("gzip,+deflate").asString(), "gzip seguido de deflate");
+    }
+
+    private Response get(String contentEncoding) {
+        return RestAssured.given()
+                .config(RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .filter(new ContentEncodingFilter(List.of("gzip", "deflate"), false))
+                .baseUri(baseUrl)
+                .get("/" + contentEncoding);
+    }
+
+    private static byte[] encode(byte[] body, String coding) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (OutputStream out = coding.equals("gzip") ? new GZIPOutputStream(encoded)
+                : coding.equals("deflate") ? new DeflaterOutputStream(encoded) : encoded) {
+            out.write(body);
+        }
+        return encoded.toByteArray();
+    }
+}
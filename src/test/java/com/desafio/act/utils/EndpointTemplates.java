@@ -0,0 +1,75 @@
+package com.desafio.act.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Agrupa caminhos concretos (ex.: /breed/hound/afghan/images) no template do endpoint
+ * (ex.: /breed/{breed}/{subBreed}/images), para que estatísticas por endpoint não se
+ * fragmentem em uma linha por raça. Os templates ficam em http.endpoint.templates,
+ * separados por vírgula; caminhos sem template correspondente são reportados como estão.
+ */
+public final class EndpointTemplates {
+
+    private static final List<Template> TEMPLATES = load();
+    private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+
+    private EndpointTemplates() {
+    }
+
+    /**
+     * @param path Caminho relativo à URL base, com ou sem barra inicial e query string
+     * @return Template correspondente ao caminho
+     */
+    public static String of(String path) {
+        String normalized = normalize(path);
+        return RESOLVED.computeIfAbsent(normalized, key -> {
+            for (Template template : TEMPLATES) {
+                if (template.pattern.matcher(key).matches()) {
+                    return template.text;
+                }
+            }
+            return key;
+        });
+    }
+
+    private static String normalize(String path) {
+        String trimmed = path == null ? "" : path.trim();
+        int query = trimmed.indexOf('?');
+        if (query >= 0) {
+            trimmed = trimmed.substring(0, query);
+        }
+        return trimmed.startsWith("/") ? trimmed : "/" + trimmed;
+    }
+
+    private static List<Template> load() {
+        List<Template> templates = new ArrayList<>();
+        String configured = Config.get("http.endpoint.templates");
+        if (configured == null || configured.isBlank()) {
+            return templates;
+        }
+
+        for (String entry : configured.split(",")) {
+            String text = normalize(entry);
+            StringBuilder regex = new StringBuilder();
+            for (String part : text.split("(?=\\{)|(?<=\\})")) {
+                regex.append(part.startsWith("{") && part.endsWith("}") ? "[^/]+" : Pattern.quote(part));
+            }
+            templates.add(new Template(text, Pattern.compile(regex.toString())));
+        }
+        return templates;
+    }
+
+    private static final class Template {
+        final String text;
+        final Pattern pattern;
+
+        Template(String text, Pattern pattern) {
+            this.text = text;
+            this.pattern = pattern;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.desafio.act.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Filtro do RestAssured que registra as últimas trocas HTTP de cada thread em um buffer circular.
+ * O registro apenas guarda referências (requisição, resposta, tempos) em posições do buffer;
+ * a formatação em texto só acontece em {@link #dump()}, normalmente quando um teste falha.
+ */
+public class ExchangeRecorder implements Filter {
+
+    private static final int CAPACITY = Math.max(1, Config.getInt("http.log.buffer.size", 32));
+    private static final int MAX_BODY_CHARS = Math.max(0, Config.getInt("http.log.max.body.chars", 4096));
+
+    private static final ThreadLocal<Ring> RING = ThreadLocal.withInitial(Ring::new);
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Ring ring = RING.get();
+        long startedAt = System.currentTimeMillis();
+        long sequence = ring.reserve(requestSpec, startedAt);
+        long start = System.nanoTime();
+        Response response = null;
+        RuntimeException failure = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            ring.publish(new Slot(sequence, requestSpec, response, failure, startedAt, System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Faz a tarefa registrar suas trocas no buffer da thread que chamou este método,
+     * para que requisições assíncronas apareçam no log do teste que as originou.
+     *
+     * @param task Tarefa a ser executada em outra thread
+     * @return Tarefa que usa o buffer da thread atual
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Ring ring = RING.get();
+        return () -> {
+            Ring previous = RING.get();
+            RING.set(ring);
+            try {
+                return task.get();
+            } finally {
+                RING.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Descarta as trocas registradas pela thread atual (chamado antes de cada teste).
+     */
+    public static void clear() {
+        RING.get().clear();
+    }
+
+    /**
+     * @return true se a thread atual registrou alguma troca desde o último clear
+     */
+    public static boolean hasExchanges() {
+        return RING.get().size() > 0;
+    }
+
+    /**
+     * Formata as trocas registradas pela thread atual, da mais antiga para a mais recente.
+     *
+     * @return Texto com requisições e respostas, ou string vazia se não houver registros
+     */
+    public static String dump() {
+        StringBuilder text = new StringBuilder();
+        for (Slot slot : RING.get().snapshot()) {
+            format(slot, text);
+        }
+        return text.toString();
+    }
+
+    private static void format(Slot slot, StringBuilder text) {
+        FilterableRequestSpecification request = slot.request;
+        text.append("=== ").append(request.getMethod()).append(' ').append(request.getURI())
+                .append(" (").append(TimeUnit.NANOSECONDS.toMillis(slot.elapsedNanos)).append(" ms, início ")
+                .append(Instant.ofEpochMilli(slot.startedAt)).append(")\n");
+        text.append("Headers da requisição:\n").append(request.getHeaders()).append('\n');
+        Object requestBody = request.getBody();
+        if (requestBody != null) {
+            text.append("Body da requisição:\n").append(truncate(String.valueOf(requestBody))).append('\n');
+        }
+
+        if (slot.failure != null) {
+            text.append("Falha: ").append(slot.failure).append("\n\n");
+            return;
+        }
+        Response response = slot.response;
+        if (response == null) {
+            text.append("Sem resposta registrada\n\n");
+            return;
+        }
+        text.append("Status: ").append(response.getStatusLine()).append('\n');
+        text.append("Headers da resposta:\n").append(response.getHeaders()).append('\n');
+        text.append("Body da resposta:\n").append(truncate(response.asString())).append("\n\n");
+    }
+
+    private static String truncate(String body) {
+        if (body.length() <= MAX_BODY_CHARS) {
+            return body;
+        }
+        return body.substring(0, MAX_BODY_CHARS) + "... (" + (body.length() - MAX_BODY_CHARS) + " caracteres omitidos)";
+    }
+
+    /**
+     * Troca registrada; imutável, substituída por inteiro quando a requisição termina.
+     */
+    private static final class Slot {
+        final long sequence;
+        final FilterableRequestSpecification request;
+        final Response response;
+        final RuntimeException failure;
+        final long startedAt;
+        final long elapsedNanos;
+
+        Slot(long sequence, FilterableRequestSpecification request, Response response,
+             RuntimeException failure, long startedAt, long elapsedNanos) {
+            this.sequence = sequence;
+            this.request = request;
+            this.response = response;
+            this.failure = failure;
+            this.startedAt = startedAt;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+
+    /**
+     * Buffer de uma thread de teste; sincronizado porque requisições assíncronas do mesmo teste
+     * registram nele a partir de outras threads. Cada posição guarda uma referência a um {@link Slot}
+     * imutável, sempre trocada sob o mesmo lock.
+     */
+    private static final class Ring {
+        final Slot[] slots = new Slot[CAPACITY];
+        long sequence;
+        int size;
+
+        /**
+         * Ocupa a próxima posição com a requisição ainda em andamento.
+         *
+         * @return Número de sequência usado em {@link #publish(Slot)}
+         */
+        synchronized long reserve(FilterableRequestSpecification request, long startedAt) {
+            long reserved = sequence++;
+            slots[(int) (reserved % CAPACITY)] = new Slot(reserved, request, null, null, startedAt, 0);
+            if (size < CAPACITY) {
+                size++;
+            }
+            return reserved;
+        }
+
+        /**
+         * Substitui a troca em andamento pela concluída, a menos que a posição já tenha sido
+         * reaproveitada por uma requisição mais nova ou descartada por {@link #clear()}.
+         */
+        synchronized void publish(Slot slot) {
+            int index = (int) (slot.sequence % CAPACITY);
+            Slot current = slots[index];
+            if (current != null && current.sequence == slot.sequence) {
+                slots[index] = slot;
+            }
+        }
+
+        synchronized Slot[] snapshot() {
+            Slot[] ordered = new Slot[size];
+            long first = sequence - size;
+            for (int i = 0; i < size; i++) {
+                ordered[i] = slots[(int) ((first + i) % CAPACITY)];
+            }
+            return ordered;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(slots, null);
+            size = 0;
+        }
+    }
+}
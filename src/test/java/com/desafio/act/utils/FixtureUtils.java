@@ -1,42 +1,70 @@
 package com.desafio.act.utils;
 
-import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 /**
  * Utilitário para carregar dados de fixture dos arquivos JSON.
+ * Cada arquivo é lido e interpretado uma única vez por JVM e mantido em coleções imutáveis,
+ * que são devolvidas diretamente aos chamadores, sem cópias.
  */
 public class FixtureUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(FixtureUtils.class);
+    private static final String FIXTURE_DIRECTORY = "fixtures/";
+
+    private static final ConcurrentHashMap<String, Map<String, Object>> fixtures = new ConcurrentHashMap<>();
+    private static final LongAdder loads = new LongAdder();
+    private static final LongAdder parseNanos = new LongAdder();
+    private static final LongAdder lookups = new LongAdder();
+
+    /**
+     * Obtém o conteúdo imutável de um arquivo de fixture do diretório resources/fixtures/.
+     * Objetos são expostos como Map, arrays como List e valores simples como String, Number ou Boolean.
+     *
+     * @param fileName Nome do arquivo JSON de fixture
+     * @return Mapa imutável com o conteúdo do arquivo
+     * @throws IOException Se houver erro ao ler o arquivo
+     */
+    public static Map<String, Object> getFixture(String fileName) throws IOException {
+        lookups.increment();
+        try {
+            return fixtures.computeIfAbsent(fileName, FixtureUtils::parse);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 
     /**
      * Carrega um arquivo JSON de fixture do diretório resources/fixtures/.
+     * Retorna um JSONObject novo (mutável) construído a partir do conteúdo em memória;
+     * prefira {@link #getFixture(String)} quando apenas a leitura for necessária.
      * 
      * @param fileName Nome do arquivo JSON de fixture
      * @return JSONObject com o conteúdo do arquivo
      * @throws IOException Se houver erro ao ler o arquivo
      */
     public static JSONObject loadFixture(String fileName) throws IOException {
-        String resourcePath = "fixtures/" + fileName;
-        
-        try (InputStream inputStream = FixtureUtils.class.getClassLoader().getResourceAsStream(resourcePath)) {
-            if (inputStream == null) {
-                throw new IOException("Arquivo de fixture não encontrado: " + resourcePath);
-            }
-            
-            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-            return new JSONObject(content);
-        }
+        return new JSONObject(getFixture(fileName));
     }
 
     /**
@@ -44,24 +72,40 @@ public class FixtureUtils {
      * 
      * @param fileName Nome do arquivo JSON de fixture
      * @param fieldName Nome do campo que contém a lista
-     * @return Lista de strings do campo especificado
+     * @return Lista imutável de strings do campo especificado
      * @throws IOException Se houver erro ao ler o arquivo
      */
+    @SuppressWarnings("unchecked")
     public static List<String> getListFromFixture(String fileName, String fieldName) throws IOException {
-        JSONObject fixture = loadFixture(fileName);
-        JSONArray array = fixture.getJSONArray(fieldName);
-        
-        List<String> list = new ArrayList<>();
-        for (int i = 0; i < array.length(); i++) {
-            list.add(array.getString(i));
+        Object value = getField(fileName, fieldName);
+        if (!(value instanceof List) || !((List<?>) value).stream().allMatch(String.class::isInstance)) {
+            throw new JSONException("Campo '" + fieldName + "' do arquivo '" + fileName + "' não é uma lista de strings");
         }
-        
+
+        List<String> list = (List<String>) value;
         logger.debug("Carregadas {} entradas do campo '{}' do arquivo '{}'", 
                 list.size(), fieldName, fileName);
         
         return list;
     }
 
+    /**
+     * Obtém um objeto de um campo específico do JSON de fixture.
+     *
+     * @param fileName Nome do arquivo JSON de fixture
+     * @param fieldName Nome do campo que contém o objeto
+     * @return Mapa imutável com o conteúdo do objeto
+     * @throws IOException Se houver erro ao ler o arquivo
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> getObjectFromFixture(String fileName, String fieldName) throws IOException {
+        Object value = getField(fileName, fieldName);
+        if (!(value instanceof Map)) {
+            throw new JSONException("Campo '" + fieldName + "' do arquivo '" + fileName + "' não é um objeto");
+        }
+        return (Map<String, Object>) value;
+    }
+
     /**
      * Obtém um inteiro de um campo específico do JSON de fixture.
      * 
@@ -71,8 +115,11 @@ public class FixtureUtils {
      * @throws IOException Se houver erro ao ler o arquivo
      */
     public static int getIntegerFromFixture(String fileName, String fieldName) throws IOException {
-        JSONObject fixture = loadFixture(fileName);
-        return fixture.getInt(fieldName);
+        Object value = getField(fileName, fieldName);
+        if (!(value instanceof Number)) {
+            throw new JSONException("Campo '" + fieldName + "' do arquivo '" + fileName + "' não é um número");
+        }
+        return ((Number) value).intValue();
     }
 
     /**
@@ -88,4 +135,87 @@ public class FixtureUtils {
         List<String> list = getListFromFixture(fileName, fieldName);
         return list.stream();
     }
-} 
+
+    /**
+     * Carrega antecipadamente todos os arquivos encontrados em resources/fixtures/.
+     *
+     * @throws IOException Se houver erro ao ler algum arquivo
+     */
+    public static void preloadAll() throws IOException {
+        URL directory = FixtureUtils.class.getClassLoader().getResource(FIXTURE_DIRECTORY);
+        if (directory == null || !"file".equals(directory.getProtocol())) {
+            logger.debug("Diretório de fixtures não acessível para pré-carga: {}", directory);
+            return;
+        }
+
+        File[] files;
+        try {
+            files = new File(directory.toURI()).listFiles((dir, name) -> name.endsWith(".json"));
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("URI inválida para o diretório de fixtures: " + directory, e);
+        }
+
+        if (files != null) {
+            for (File file : files) {
+                getFixture(file.getName());
+            }
+        }
+        logger.info("{} fixtures pré-carregadas", fixtures.size());
+    }
+
+    /**
+     * @return Resumo com a quantidade de leituras de arquivo, consultas e tempo de parse
+     */
+    public static String statistics() {
+        return String.format("Fixtures: %d arquivos interpretados em %d ms; %d consultas",
+                loads.sum(), TimeUnit.NANOSECONDS.toMillis(parseNanos.sum()), lookups.sum());
+    }
+
+    private static Object getField(String fileName, String fieldName) throws IOException {
+        Map<String, Object> fixture = getFixture(fileName);
+        if (!fixture.containsKey(fieldName)) {
+            throw new JSONException("Campo '" + fieldName + "' não encontrado no arquivo '" + fileName + "'");
+        }
+        return fixture.get(fieldName);
+    }
+
+    private static Map<String, Object> parse(String fileName) {
+        String resourcePath = FIXTURE_DIRECTORY + fileName;
+        long start = System.nanoTime();
+        
+        try (InputStream inputStream = FixtureUtils.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                throw new IOException("Arquivo de fixture não encontrado: " + resourcePath);
+            }
+            
+            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            return freezeMap(new JSONObject(content).toMap());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            parseNanos.add(System.nanoTime() - start);
+            loads.increment();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freeze(Object value) {
+        if (value instanceof Map) {
+            return freezeMap((Map<String, Object>) value);
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            for (Object element : (List<Object>) value) {
+                list.add(freeze(element));
+            }
+            return Collections.unmodifiableList(list);
+        }
+        return value;
+    }
+
+    private static Map<String, Object> freezeMap(Map<String, Object> map) {
+        Map<String, Object> frozen = new LinkedHashMap<>();
+        map.forEach((key, value) -> frozen.put(key, freeze(value)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
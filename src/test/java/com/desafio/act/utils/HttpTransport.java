@@ -0,0 +1,80 @@
+package com.desafio.act.utils;
+
+import io.restassured.builder.RequestSpecBuilder;
+
+import java.util.Locale;
+
+/**
+ * Transporte usado pelo {@link HttpUtils} para levar as requisições até o servidor.
+ * Cada implementação contribui para a especificação base (modelo compartilhado de requisição),
+ * seja configurando o cliente HTTP do RestAssured, seja adicionando um filtro terminal.
+ */
+public interface HttpTransport {
+
+    /**
+     * @return Nome do transporte (valor aceito em http.transport)
+     */
+    String name();
+
+    /**
+     * Aplica o transporte à especificação base criada uma única vez pelo HttpUtils.
+     *
+     * @param template Builder da especificação base
+     */
+    void configure(RequestSpecBuilder template);
+
+    /**
+     * @return Estatísticas de conexões e requisições desde o início da execução
+     */
+    String statistics();
+
+    /**
+     * Libera conexões e threads do transporte.
+     */
+    void close();
+
+    /**
+     * Interrompe a requisição em andamento na thread informada (timeout de uma requisição assíncrona).
+     * A thread fica interrompida até o fim da tarefa, o que também impede novas tentativas.
+     * Por padrão apenas interrompe a thread, o que basta para clientes que respondem a interrupção.
+     *
+     * @param worker Thread que executa a requisição
+     */
+    default void abort(Thread worker) {
+        worker.interrupt();
+    }
+
+    /**
+     * Indica que a thread atual concluiu a tarefa assíncrona, descartando a marca de um
+     * {@link #abort(Thread)} anterior.
+     */
+    default void finished() {
+    }
+
+    /**
+     * Cria o transporte definido em http.transport: restassured (padrão, Apache HttpClient com pool
+     * de conexões) ou jdk (java.net.http.HttpClient, com HTTP/2 quando disponível).
+     *
+     * @return Transporte configurado
+     */
+    static HttpTransport fromConfig() {
+        String name = Config.get("http.transport");
+        if (name == null || name.trim().isEmpty() || "restassured".equalsIgnoreCase(name.trim())) {
+            return new RestAssuredTransport(
+                    Config.getInt("http.pool.max.total", 50),
+                    Config.getInt("http.pool.max.per.route", 20),
+                    Config.getInt("http.pool.idle.timeout.seconds", 30),
+                    Config.getInt("http.pool.keepalive.seconds", 60),
+                    Config.getInt("http.connect.timeout.ms", 10000),
+                    Config.getInt("http.request.timeout.ms", 30000));
+        }
+        if ("jdk".equalsIgnoreCase(name.trim())) {
+            String version = Config.get("http.jdk.version");
+            return new JdkHttpTransport(
+                    version == null ? "HTTP_2" : version.trim().toUpperCase(Locale.ROOT),
+                    Config.getInt("http.connect.timeout.ms", 10000),
+                    Config.getInt("http.request.timeout.ms", 30000));
+        }
+        throw new IllegalArgumentException("Transporte HTTP inválido: " + name + " (use restassured ou jdk)");
+    }
+}
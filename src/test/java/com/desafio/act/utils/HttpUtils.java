@@ -1,14 +1,38 @@
 package com.desafio.act.utils;
 
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Utilitário HTTP simplificado para execução de requisições de API.
@@ -17,8 +41,43 @@ import java.util.Map;
 public class HttpUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(HttpUtils.class);
-    private static final String BASE_URL = Config.get("base.url");
-    
+    private static volatile String baseUrl = Config.get("base.url");
+    private static final ResponseCache RESPONSE_CACHE = Config.getBoolean("http.cache.enabled", false)
+            ? new ResponseCache(Config.getInt("http.cache.ttl.seconds", 60), Config.getInt("http.cache.max.entries", 256))
+            : null;
+    private static final boolean VERBOSE_LOG = "verbose".equalsIgnoreCase(Config.get("http.log.mode"));
+    private static final ExchangeRecorder EXCHANGE_RECORDER = new ExchangeRecorder();
+    private static final AllureAttachmentPipeline ATTACHMENT_PIPELINE = new AllureAttachmentPipeline();
+    private static final HttpTransport TRANSPORT = HttpTransport.fromConfig();
+    private static final RequestThrottle THROTTLE = RequestThrottle.fromConfig();
+    private static final Cassette CASSETTE = Cassette.fromConfig();
+    private static final ValidatorCache VALIDATOR_CACHE = Config.getBoolean("http.validators.enabled", true)
+            ? new ValidatorCache(Config.getInt("http.validators.max.entries", 512))
+            : null;
+    private static final ContentEncodingFilter CONTENT_ENCODING = ContentEncodingFilter.fromConfig();
+    private static final MetricsRegistry METRICS = new MetricsRegistry();
+    private static final StreamingClient STREAMING = StreamingClient.fromConfig();
+    private static final RequestSpecification REQUEST_TEMPLATE = buildRequestTemplate();
+    private static final int ASYNC_MAX_CONCURRENCY = Math.max(1, Config.getInt("http.async.max.concurrency", 8));
+    private static final Duration ASYNC_TIMEOUT = Duration.ofMillis(Config.getInt("http.async.timeout.ms", 30000));
+    private static final ExecutorService ASYNC_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, Config.getInt("http.async.threads", 16)), new ThreadFactory() {
+                private final AtomicInteger sequence = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "http-async-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+    private static final ThreadLocal<long[]> LAST_ATTEMPT_NANOS = ThreadLocal.withInitial(() -> new long[] {-1});
+    private static final ScheduledExecutorService ASYNC_TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "http-async-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Enum para definir os tipos de requisição HTTP suportados.
      */
@@ -26,22 +85,133 @@ public class HttpUtils {
         GET, POST, PUT, DELETE
     }
 
+    /**
+     * Requisição a ser enviada em lote por {@link #sendAll(List, int, Duration)}.
+     */
+    public static final class Request {
+
+        private final HttpMethod method;
+        private final String endpoint;
+        private final String body;
+        private final Map<String, String> headers;
+        private final boolean bypassCache;
+
+        private Request(HttpMethod method, String endpoint, String body, Map<String, String> headers, boolean bypassCache) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.body = body;
+            this.headers = headers;
+            this.bypassCache = bypassCache;
+        }
+
+        /**
+         * @param method Método HTTP
+         * @param endpoint Endpoint da API
+         * @return Requisição sem body e sem headers
+         */
+        public static Request of(HttpMethod method, String endpoint) {
+            return new Request(method, endpoint, null, null, false);
+        }
+
+        /**
+         * @param body Body da requisição
+         * @return Cópia da requisição com o body informado
+         */
+        public Request withBody(String body) {
+            return new Request(method, endpoint, body, headers, bypassCache);
+        }
+
+        /**
+         * @param headers Headers customizados
+         * @return Cópia da requisição com os headers informados
+         */
+        public Request withHeaders(Map<String, String> headers) {
+            return new Request(method, endpoint, body, headers, bypassCache);
+        }
+
+        /**
+         * @return Cópia da requisição que sempre vai ao servidor, ignorando o cache de respostas e a revalidação
+         * por ETag/Last-Modified
+         */
+        public Request withoutCache() {
+            return new Request(method, endpoint, body, headers, true);
+        }
+
+        private Response send() {
+            return bypassCache
+                    ? execute(method, endpoint, body, withoutValidators(headers))
+                    : sendRequest(method, endpoint, body, headers);
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + endpoint;
+        }
+    }
+
+    /**
+     * Redireciona as requisições para outra URL base (ex.: servidor substituto local).
+     *
+     * @param url Nova URL base
+     */
+    public static void setBaseUrl(String url) {
+        logger.info("URL base alterada de {} para {}", baseUrl, url);
+        baseUrl = url;
+    }
+
+    /**
+     * @return URL base usada nas requisições
+     */
+    public static String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Especificação compartilhada, montada uma única vez: tipos de conteúdo, filtros e o transporte
+     * definido em http.transport.
+     * Com http.log.mode=verbose toda requisição e resposta é impressa no console; no modo padrão
+     * (failures) as trocas vão para o buffer do {@link ExchangeRecorder} e só são publicadas se o teste falhar.
+     * Os anexos do Allure são escritos em segundo plano pelo {@link AllureAttachmentPipeline}.
+     * Com http.cassette.mode ativo, o {@link Cassette} grava ou reproduz as trocas antes do transporte, e
+     * GETs repetidos são revalidados com ETag/Last-Modified pelo {@link ValidatorCache}. A compressão é
+     * negociada e desfeita pelo {@link ContentEncodingFilter}, que mede bytes na rede e decodificados.
+     *
+     * @return Especificação base
+     */
+    private static RequestSpecification buildRequestTemplate() {
+        RequestSpecBuilder template = new RequestSpecBuilder()
+                .addFilter(ATTACHMENT_PIPELINE)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON);
+        if (!VERBOSE_LOG) {
+            template.addFilter(EXCHANGE_RECORDER);
+        }
+        if (CASSETTE.isActive()) {
+            template.addFilter(CASSETTE);
+        }
+        if (VALIDATOR_CACHE != null) {
+            template.addFilter(VALIDATOR_CACHE);
+        }
+        template.addFilter(CONTENT_ENCODING);
+        TRANSPORT.configure(template);
+        return template.build();
+    }
+
     /**
      * Configuração base para todas as requisições HTTP.
      * 
      * @return RequestSpecification configurado
      */
     private static RequestSpecification getBaseRequest() {
-        return RestAssured.given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
-                .baseUri(BASE_URL)
-                .log().all();
+        RequestSpecification request = RestAssured.given()
+                .spec(REQUEST_TEMPLATE)
+                .baseUri(baseUrl);
+        return VERBOSE_LOG ? request.log().all() : request;
     }
 
     /**
      * Método centralizado para enviar requisições HTTP com switch case.
+     * Requisições GET são servidas pelo cache de respostas quando http.cache.enabled estiver ativo.
      * 
      * @param method Método HTTP (GET, POST, PUT, DELETE)
      * @param endpoint Endpoint da API
@@ -50,7 +220,265 @@ public class HttpUtils {
      * @return Response da requisição
      */
     public static Response sendRequest(HttpMethod method, String endpoint, String body, Map<String, String> headers) {
-        logger.info("Executando {} para: {} com body: {} e headers: {}", method, endpoint, body, headers);
+        if (RESPONSE_CACHE != null && method == HttpMethod.GET) {
+            return RESPONSE_CACHE.get(cacheKey(method, endpoint, headers),
+                    () -> execute(method, endpoint, body, headers));
+        }
+        return execute(method, endpoint, body, headers);
+    }
+
+    /**
+     * Envia a requisição sempre ao servidor, ignorando o cache de respostas e a revalidação por
+     * ETag/Last-Modified: a resposta é sempre a completa (200 com body) enviada pelo servidor.
+     * Usado por testes que dependem de respostas novas a cada chamada.
+     *
+     * @param method Método HTTP
+     * @param endpoint Endpoint da API
+     * @return Response da requisição
+     */
+    public static Response sendRequestWithoutCache(HttpMethod method, String endpoint) {
+        return execute(method, endpoint, null, withoutValidators(null));
+    }
+
+    /**
+     * Sobrecarga de sendRequestWithoutCache com headers customizados.
+     *
+     * @param method Método HTTP
+     * @param endpoint Endpoint da API
+     * @param headers Headers customizados
+     * @return Response da requisição
+     */
+    public static Response sendRequestWithoutCache(HttpMethod method, String endpoint, Map<String, String> headers) {
+        return execute(method, endpoint, null, withoutValidators(headers));
+    }
+
+    /**
+     * Envia a requisição ao servidor ignorando o cache de respostas, mas com a revalidação por
+     * ETag/Last-Modified do {@link ValidatorCache}: uma resposta 304 é devolvida como 200 com o body
+     * guardado (ver {@link #wasRevalidated(Response)}).
+     *
+     * @param method Método HTTP
+     * @param endpoint Endpoint da API
+     * @param headers Headers customizados (opcional)
+     * @return Response da requisição
+     */
+    public static Response sendConditionalRequest(HttpMethod method, String endpoint, Map<String, String> headers) {
+        return execute(method, endpoint, null, headers);
+    }
+
+    /**
+     * Marca a requisição para que o {@link ValidatorCache} não a revalide.
+     */
+    private static Map<String, String> withoutValidators(Map<String, String> headers) {
+        if (VALIDATOR_CACHE == null) {
+            return headers;
+        }
+        Map<String, String> marked = headers == null ? new LinkedHashMap<>() : new LinkedHashMap<>(headers);
+        marked.put(ValidatorCache.BYPASS_HEADER, "true");
+        return marked;
+    }
+
+    /**
+     * GET cuja lista JSON do campo message é lida em streaming, sem montar a resposta inteira em memória.
+     * Não passa pelos filtros do RestAssured (log em falhas, Allure, cassete) nem pelo controle de ritmo;
+     * a latência até os cabeçalhos entra nas métricas. O stream deve ser fechado pelo chamador.
+     *
+     * @param endpoint Endpoint da API
+     * @return Iterador sobre os elementos de message
+     * @throws IOException Se a requisição falhar, o status não for 2xx ({@link StreamingClient.StatusException})
+     * ou o corpo exceder http.stream.max.body.bytes
+     */
+    public static StreamingClient.JsonArrayStream streamJsonList(String endpoint) throws IOException {
+        long start = System.nanoTime();
+        int status = MetricsRegistry.NO_RESPONSE;
+        try {
+            StreamingClient.JsonArrayStream stream = STREAMING.streamArray(URI.create(baseUrl + endpoint), "message");
+            status = stream.getStatusCode();
+            return stream;
+        } catch (StreamingClient.StatusException e) {
+            status = e.getStatusCode();
+            throw e;
+        } finally {
+            METRICS.record(HttpMethod.GET.name(), EndpointTemplates.of(endpoint), status, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Baixa uma URL completa (ex.: imagem devolvida pela API) direto para um arquivo, sem guardar o corpo
+     * em memória. Com destino nulo o corpo é apenas contado e descartado.
+     *
+     * @param url Url completa
+     * @param target Arquivo de destino, ou null para descartar
+     * @param maxBodyBytes Tamanho máximo do corpo
+     * @return Status, bytes recebidos e tempos do download
+     * @throws IOException Se a requisição ou a escrita falharem, ou o corpo exceder o limite
+     */
+    public static StreamingClient.Download download(String url, Path target, long maxBodyBytes) throws IOException {
+        return STREAMING.download(URI.create(url), target, maxBodyBytes);
+    }
+
+    /**
+     * Sobrecarga de download com o limite de http.stream.max.body.bytes.
+     *
+     * @param url Url completa
+     * @param target Arquivo de destino, ou null para descartar
+     * @return Status, bytes recebidos e tempos do download
+     * @throws IOException Se a requisição ou a escrita falharem, ou o corpo exceder o limite
+     */
+    public static StreamingClient.Download download(String url, Path target) throws IOException {
+        return STREAMING.download(URI.create(url), target);
+    }
+
+    /**
+     * @return Listas lidas em streaming, downloads e respostas abortadas pelo limite de tamanho
+     */
+    public static String streamingStatistics() {
+        return STREAMING.statistics();
+    }
+
+    /**
+     * @return Estatísticas do transporte HTTP (pool de conexões, handshakes, versões do protocolo)
+     */
+    public static String transportStatistics() {
+        return TRANSPORT.statistics();
+    }
+
+    /**
+     * @return Tempo gasto no controle de ritmo (taxa, concorrência e backoff) versus aguardando o servidor
+     */
+    public static String throttleStatistics() {
+        return THROTTLE.statistics();
+    }
+
+    /**
+     * @return Estatísticas do cassete de gravação/reprodução, ou null se http.cassette.mode=passthrough
+     */
+    public static String cassetteStatistics() {
+        return CASSETTE.isActive() ? CASSETTE.statistics() : null;
+    }
+
+    /**
+     * Grava em disco as trocas capturadas nos modos record e record-missing.
+     *
+     * @throws IOException se o cassete não puder ser gravado
+     */
+    public static void saveCassette() throws IOException {
+        if (CASSETTE.isActive()) {
+            CASSETTE.save();
+        }
+    }
+
+    /**
+     * Indica se a resposta foi servida do cache de validadores após o servidor responder 304 Not Modified.
+     *
+     * @param response Response retornada por sendRequest
+     * @return true se houve revalidação
+     */
+    public static boolean wasRevalidated(Response response) {
+        return ValidatorCache.wasRevalidated(response);
+    }
+
+    /**
+     * @return Revalidações 304 e bytes economizados por endpoint, ou null se http.validators.enabled=false
+     */
+    public static String validatorStatistics() {
+        return VALIDATOR_CACHE == null ? null : VALIDATOR_CACHE.statistics();
+    }
+
+    /**
+     * @return Bytes na rede versus decodificados e tempo ponta a ponta por endpoint e Accept-Encoding
+     */
+    public static String compressionStatistics() {
+        return CONTENT_ENCODING.statistics();
+    }
+
+    /**
+     * Exporta as métricas das requisições (contagem e distribuição de latência por método, template de
+     * endpoint e status) nos arquivos metrics.prometheus.file e metrics.json.file. Cada exportação
+     * sobrescreve a anterior com os valores acumulados desde o início da execução.
+     *
+     * @throws IOException se algum arquivo não puder ser gravado
+     */
+    public static void exportMetrics() throws IOException {
+        METRICS.exportPrometheus(Paths.get(Config.get("metrics.prometheus.file")));
+        METRICS.exportJson(Paths.get(Config.get("metrics.json.file")));
+    }
+
+    /**
+     * Amostras das medições dedicadas de latência desta execução ({@link LatencyMeter}), por nome da
+     * medição, para o histórico entre execuções. O tráfego geral da suite, concorrente e sujeito a
+     * revalidações, não entra. Vazio quando respostas vêm do cassete.
+     *
+     * @return Latências em nanossegundos por série
+     */
+    public static Map<String, long[]> latencySamples() {
+        return CASSETTE.servesRecordings()
+                ? Map.of()
+                : LatencyMeter.recordedSamples(Config.getInt("latency.history.max.samples", 2000));
+    }
+
+    /**
+     * Duração da última tentativa enviada pela thread atual, medida abaixo do controle de ritmo
+     * (sem esperas de taxa, concorrência ou backoff). A leitura consome o valor.
+     *
+     * @return Nanossegundos, ou -1 se nenhuma tentativa foi enviada desde a leitura anterior
+     */
+    public static long takeLastAttemptNanos() {
+        long[] slot = LAST_ATTEMPT_NANOS.get();
+        long nanos = slot[0];
+        slot[0] = -1;
+        return nanos;
+    }
+
+    /**
+     * @return Total de requisições e séries do registro de métricas
+     */
+    public static String metricsStatistics() {
+        return String.format("Métricas HTTP: %d requisições em %d séries (método, endpoint, status) exportadas em %s e %s",
+                METRICS.count(), METRICS.seriesCount(), Config.get("metrics.prometheus.file"), Config.get("metrics.json.file"));
+    }
+
+    /**
+     * @return Estatísticas do cache de respostas, ou null se o cache estiver desativado
+     */
+    public static String cacheStatistics() {
+        return RESPONSE_CACHE == null ? null : RESPONSE_CACHE.statistics();
+    }
+
+    private static String cacheKey(HttpMethod method, String endpoint, Map<String, String> headers) {
+        String sortedHeaders = headers == null ? "{}" : new TreeMap<>(headers).toString();
+        return method + " " + baseUrl + endpoint + " " + sortedHeaders;
+    }
+
+    private static Response execute(HttpMethod method, String endpoint, String body, Map<String, String> headers) {
+        // Trocas reproduzidas do cassete não passam pelo controle de ritmo
+        if (CASSETTE.replays(method.name(), endpoint, body)) {
+            return dispatch(method, endpoint, body, headers);
+        }
+        return THROTTLE.execute(method, baseUrl, endpoint, () -> dispatch(method, endpoint, body, headers));
+    }
+
+    /**
+     * Envia uma tentativa e a registra nas métricas. A medição fica abaixo do controle de ritmo, para que
+     * esperas locais (taxa, concorrência, backoff) não se misturem à latência da API.
+     */
+    private static Response dispatch(HttpMethod method, String endpoint, String body, Map<String, String> headers) {
+        long start = System.nanoTime();
+        int status = MetricsRegistry.NO_RESPONSE;
+        try {
+            Response response = perform(method, endpoint, body, headers);
+            // Revalidações ficam numa série própria (304, como veio da rede), separadas das respostas completas
+            status = ValidatorCache.wasRevalidated(response) ? 304 : response.getStatusCode();
+            return response;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            LAST_ATTEMPT_NANOS.get()[0] = elapsed;
+            METRICS.record(method.name(), EndpointTemplates.of(endpoint), status, elapsed);
+        }
+    }
+
+    private static Response perform(HttpMethod method, String endpoint, String body, Map<String, String> headers) {
+        logger.debug("Executando {} para: {} com body: {} e headers: {}", method, endpoint, body, headers);
         
         RequestSpecification request = getBaseRequest();
         
@@ -70,44 +498,36 @@ public class HttpUtils {
             case GET:
                 response = request
                         .when()
-                        .get(endpoint)
-                        .then()
-                        .log().all()
-                        .extract().response();
+                        .get(endpoint);
                 break;
                 
             case POST:
                 response = request
                         .when()
-                        .post(endpoint)
-                        .then()
-                        .log().all()
-                        .extract().response();
+                        .post(endpoint);
                 break;
                 
             case PUT:
                 response = request
                         .when()
-                        .put(endpoint)
-                        .then()
-                        .log().all()
-                        .extract().response();
+                        .put(endpoint);
                 break;
                 
             case DELETE:
                 response = request
                         .when()
-                        .delete(endpoint)
-                        .then()
-                        .log().all()
-                        .extract().response();
+                        .delete(endpoint);
                 break;
                 
             default:
                 throw new IllegalArgumentException("Método HTTP não suportado: " + method);
         }
+
+        if (VERBOSE_LOG) {
+            response.then().log().all();
+        }
         
-        logger.info("Status code: {}", response.getStatusCode());
+        logger.debug("Status code: {}", response.getStatusCode());
         return response;
     }
 
@@ -146,14 +566,231 @@ public class HttpUtils {
         return sendRequest(method, endpoint, null, headers);
     }
 
+    /**
+     * Versão não bloqueante de {@link #sendRequest(HttpMethod, String, String, Map)}.
+     * A requisição é executada em um pool de threads próprio, levando o contexto do teste atual
+     * (anexos do Allure e buffer de log em falhas), e falha com TimeoutException após http.async.timeout.ms.
+     *
+     * @param method Método HTTP
+     * @param endpoint Endpoint da API
+     * @param body Body da requisição (opcional)
+     * @param headers Headers customizados (opcional)
+     * @return Future com a Response da requisição
+     */
+    public static CompletableFuture<Response> sendRequestAsync(HttpMethod method, String endpoint, String body,
+                                                               Map<String, String> headers) {
+        Request request = Request.of(method, endpoint).withBody(body).withHeaders(headers);
+        return submit(request.toString(), request::send, ASYNC_TIMEOUT, null);
+    }
+
+    /**
+     * Executa uma tarefa no pool das requisições assíncronas, com o mesmo contexto e timeout de
+     * {@link #sendRequestAsync(HttpMethod, String, String, Map)}. Permite ler, na própria thread do pool,
+     * valores por thread como {@link #takeLastAttemptNanos()}.
+     *
+     * @param description Descrição da tarefa, usada na mensagem de timeout
+     * @param task Tarefa que envia as requisições pelo HttpUtils
+     * @return Future com o resultado da tarefa
+     */
+    public static <T> CompletableFuture<T> supplyAsync(String description, Supplier<T> task) {
+        return submit(description, task, ASYNC_TIMEOUT, null);
+    }
+
+    /**
+     * Sobrecarga do método sendRequestAsync sem body e headers.
+     *
+     * @param method Método HTTP
+     * @param endpoint Endpoint da API
+     * @return Future com a Response da requisição
+     */
+    public static CompletableFuture<Response> sendRequestAsync(HttpMethod method, String endpoint) {
+        return sendRequestAsync(method, endpoint, null, null);
+    }
+
+    /**
+     * Sobrecarga do método sendRequestAsync com body mas sem headers.
+     *
+     * @param method Método HTTP
+     * @param endpoint Endpoint da API
+     * @param body Body da requisição
+     * @return Future com a Response da requisição
+     */
+    public static CompletableFuture<Response> sendRequestAsync(HttpMethod method, String endpoint, String body) {
+        return sendRequestAsync(method, endpoint, body, null);
+    }
+
+    /**
+     * Sobrecarga do método sendRequestAsync com headers mas sem body.
+     *
+     * @param method Método HTTP
+     * @param endpoint Endpoint da API
+     * @param headers Headers customizados
+     * @return Future com a Response da requisição
+     */
+    public static CompletableFuture<Response> sendRequestAsync(HttpMethod method, String endpoint,
+                                                               Map<String, String> headers) {
+        return sendRequestAsync(method, endpoint, null, headers);
+    }
+
+    /**
+     * Envia um lote de requisições com no máximo maxConcurrency em andamento ao mesmo tempo
+     * e aguarda todas. As respostas são devolvidas na mesma ordem das requisições.
+     *
+     * @param requests Requisições do lote
+     * @param maxConcurrency Requisições simultâneas
+     * @param timeout Tempo máximo de cada requisição
+     * @return Responses na ordem das requisições
+     * @throws IllegalStateException Se alguma requisição falhar ou exceder o timeout
+     */
+    public static List<Response> sendAll(List<Request> requests, int maxConcurrency, Duration timeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Concorrência do lote deve ser positiva: " + maxConcurrency);
+        }
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<CompletableFuture<Response>> futures = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Envio do lote interrompido", e);
+            }
+            futures.add(submit(request.toString(), request::send, timeout, permits));
+        }
+
+        List<Response> responses = new ArrayList<>(requests.size());
+        IllegalStateException failure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                responses.add(futures.get(i).join());
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (failure == null) {
+                    failure = new IllegalStateException("Falha na requisição " + requests.get(i) + " do lote", cause);
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        logger.debug("Lote de {} requisições concluído", requests.size());
+        return responses;
+    }
+
+    /**
+     * Sobrecarga do método sendAll com a concorrência (http.async.max.concurrency) e o
+     * timeout (http.async.timeout.ms) configurados.
+     *
+     * @param requests Requisições do lote
+     * @return Responses na ordem das requisições
+     */
+    public static List<Response> sendAll(List<Request> requests) {
+        return sendAll(requests, ASYNC_MAX_CONCURRENCY, ASYNC_TIMEOUT);
+    }
+
+    private static <T> CompletableFuture<T> submit(String description, Supplier<T> send, Duration timeout,
+                                                   Semaphore permits) {
+        Supplier<T> task = AllureAttachmentPipeline.propagate(ExchangeRecorder.propagate(send));
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            ASYNC_EXECUTOR.execute(() -> run(description, task, timeout, permits, future));
+        } catch (RejectedExecutionException e) {
+            if (permits != null) {
+                permits.release();
+            }
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Executa a requisição na thread do pool. O timeout conta a partir do início da execução (não do
+     * enfileiramento) e, se o future terminar antes da requisição (timeout ou cancelamento), a requisição
+     * em andamento é abortada no transporte para liberar a thread e a permissão do lote.
+     */
+    private static <T> void run(String description, Supplier<T> task, Duration timeout, Semaphore permits,
+                                CompletableFuture<T> future) {
+        if (future.isDone()) {
+            if (permits != null) {
+                permits.release();
+            }
+            return;
+        }
+
+        Thread worker = Thread.currentThread();
+        AtomicBoolean running = new AtomicBoolean(true);
+        future.whenComplete((response, failure) -> {
+            synchronized (running) {
+                if (running.get()) {
+                    TRANSPORT.abort(worker);
+                }
+            }
+        });
+        ScheduledFuture<?> timer = ASYNC_TIMER.schedule(() -> future.completeExceptionally(new TimeoutException(
+                "Requisição " + description + " excedeu " + timeout.toMillis() + " ms")), timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        T result = null;
+        Throwable failure = null;
+        try {
+            result = task.get();
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            synchronized (running) {
+                running.set(false);
+            }
+            // Descarta a interrupção de um abort, para não vazar para a próxima tarefa da thread
+            TRANSPORT.finished();
+            Thread.interrupted();
+            timer.cancel(false);
+            if (permits != null) {
+                permits.release();
+            }
+        }
+
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else {
+            future.complete(result);
+        }
+    }
+
     /**
      * Obtém o valor de um campo específico do JSON da resposta.
+     * O corpo é interpretado uma única vez por resposta (ver {@link JsonDocument}).
      * 
      * @param response Response da requisição
      * @param jsonPath Caminho do campo no JSON
      * @return Valor do campo
      */
     public static String getJsonFieldValue(Response response, String jsonPath) {
-        return response.jsonPath().getString(jsonPath);
+        return JsonDocument.of(response).getString(jsonPath);
+    }
+
+    /**
+     * Obtém um array do JSON da resposta como lista de strings.
+     *
+     * @param response Response da requisição
+     * @param jsonPath Caminho do array no JSON
+     * @return Elementos do array
+     */
+    public static List<String> getJsonList(Response response, String jsonPath) {
+        return JsonDocument.of(response).getList(jsonPath);
+    }
+
+    /**
+     * Obtém um objeto do JSON da resposta como mapa.
+     *
+     * @param response Response da requisição
+     * @param jsonPath Caminho do objeto no JSON
+     * @return Objeto convertido em mapa
+     */
+    public static Map<String, Object> getJsonMap(Response response, String jsonPath) {
+        return JsonDocument.of(response).getMap(jsonPath);
     }
 }
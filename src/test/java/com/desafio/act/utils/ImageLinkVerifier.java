@@ -0,0 +1,330 @@
+package com.desafio.act.utils;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Verifica se as URLs de imagem devolvidas pela API realmente respondem.
+ * As URLs são deduplicadas e consultadas com HEAD (ou GET com Range: bytes=0-0) pelo cliente
+ * assíncrono do JDK, com um limite de requisições simultâneas por host. Cada link precisa
+ * responder 200/206, com Content-Type image/* e tamanho positivo.
+ */
+public class ImageLinkVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageLinkVerifier.class);
+    private static final Pattern CONTENT_RANGE_TOTAL = Pattern.compile("bytes \\d+-\\d+/(\\d+)");
+
+    /**
+     * Forma de consultar cada link.
+     */
+    public enum Method {
+        HEAD, RANGE
+    }
+
+    private final HttpClient client;
+    private final int maxPerHost;
+    private final Duration timeout;
+    private final Method method;
+    private final Map<String, String> hostRewrites = new LinkedHashMap<>();
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxPerHost Requisições simultâneas por host (com HTTP/1.1, conexões por host)
+     * @param timeout    Tempo máximo de cada verificação
+     * @param method     HEAD ou GET com Range
+     * @param version    Versão do HTTP usada pelo cliente
+     */
+    public ImageLinkVerifier(int maxPerHost, Duration timeout, Method method, HttpClient.Version version) {
+        if (maxPerHost < 1) {
+            throw new IllegalArgumentException("Limite por host deve ser positivo: " + maxPerHost);
+        }
+        this.maxPerHost = maxPerHost;
+        this.timeout = timeout;
+        this.method = method;
+        this.client = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Cria o verificador a partir das propriedades image.verify.* do test.properties.
+     *
+     * @return Verificador configurado
+     */
+    public static ImageLinkVerifier fromConfig() {
+        String method = Config.get("image.verify.method");
+        String version = Config.get("image.verify.http.version");
+        return new ImageLinkVerifier(
+                Config.getInt("image.verify.max.per.host", 32),
+                Duration.ofMillis(Config.getInt("image.verify.timeout.ms", 10000)),
+                method == null ? Method.HEAD : Method.valueOf(method.trim().toUpperCase(Locale.ROOT)),
+                version == null ? HttpClient.Version.HTTP_1_1 : HttpClient.Version.valueOf(version.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * Redireciona as verificações de um host para outro (ex.: images.dog.ceo para o servidor substituto).
+     * As URLs do relatório continuam sendo as originais.
+     *
+     * @param fromPrefix Prefixo original (ex.: https://images.dog.ceo)
+     * @param toPrefix   Prefixo de destino (ex.: http://127.0.0.1:54321)
+     * @return Este verificador
+     */
+    public ImageLinkVerifier withHostRewrite(String fromPrefix, String toPrefix) {
+        hostRewrites.put(fromPrefix, toPrefix);
+        return this;
+    }
+
+    /**
+     * Verifica as URLs do campo message de uma resposta da API (lista ou URL única).
+     *
+     * @param response Response de /breed/{breed}/images ou /breeds/image/random
+     * @return Relatório da verificação
+     */
+    public LinkReport verify(Response response) {
+        JsonDocument document = JsonDocument.of(response);
+        if (document.node("message") == null) {
+            return verify(Collections.emptyList());
+        }
+        if (document.node("message").isArray()) {
+            return verify(document.getList("message"));
+        }
+        return verify(Collections.singletonList(document.getString("message")));
+    }
+
+    /**
+     * Verifica todas as URLs informadas, consultando cada URL distinta uma única vez.
+     *
+     * @param urls URLs a verificar (podem conter repetições)
+     * @return Relatório da verificação
+     */
+    public LinkReport verify(Collection<String> urls) {
+        Set<String> unique = new LinkedHashSet<>(urls);
+        ConcurrentLinkedQueue<BrokenLink> broken = new ConcurrentLinkedQueue<>();
+        LongAdder bytes = new LongAdder();
+        List<CompletableFuture<Void>> checks = new ArrayList<>(unique.size());
+
+        long start = System.nanoTime();
+        for (String url : unique) {
+            URI target;
+            HttpRequest request;
+            try {
+                target = URI.create(rewrite(url));
+                // O builder recusa URIs relativas ou sem esquema http/https; montado antes de ocupar a vaga do host
+                request = request(target);
+            } catch (IllegalArgumentException e) {
+                broken.add(new BrokenLink(url, "URL inválida: " + e.getMessage()));
+                continue;
+            }
+
+            Semaphore permits = hostPermits.computeIfAbsent(
+                    String.valueOf(target.getHost()) + ":" + target.getPort(), host -> new Semaphore(maxPerHost));
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Verificação de links interrompida", e);
+            }
+
+            CompletableFuture<HttpResponse<Void>> sent;
+            try {
+                sent = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            } catch (RuntimeException e) {
+                permits.release();
+                broken.add(new BrokenLink(url, describe(e)));
+                continue;
+            }
+            checks.add(sent.handle((response, error) -> {
+                permits.release();
+                String problem = error != null ? describe(error) : inspect(response, bytes);
+                if (problem != null) {
+                    broken.add(new BrokenLink(url, problem));
+                }
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(checks.toArray(new CompletableFuture[0])).join();
+
+        LinkReport report = new LinkReport(urls.size(), unique.size(), new ArrayList<>(broken),
+                bytes.sum(), System.nanoTime() - start);
+        logger.info("{}", report.summary());
+        return report;
+    }
+
+    private HttpRequest request(URI target) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target).timeout(timeout);
+        if (method == Method.RANGE) {
+            return builder.header("Range", "bytes=0-0").GET().build();
+        }
+        return builder.method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private String rewrite(String url) {
+        for (Map.Entry<String, String> rewrite : hostRewrites.entrySet()) {
+            if (url.startsWith(rewrite.getKey())) {
+                return rewrite.getValue() + url.substring(rewrite.getKey().length());
+            }
+        }
+        return url;
+    }
+
+    /**
+     * @return Descrição do problema encontrado, ou null se o link estiver válido
+     */
+    private String inspect(HttpResponse<Void> response, LongAdder bytes) {
+        int status = response.statusCode();
+        boolean expectedStatus = status == 200 || (method == Method.RANGE && status == 206);
+        if (!expectedStatus) {
+            return "status " + status;
+        }
+
+        String contentType = response.headers().firstValue("content-type").orElse("");
+        if (!contentType.toLowerCase(Locale.ROOT).startsWith("image/")) {
+            return "Content-Type inesperado: '" + contentType + "'";
+        }
+
+        OptionalLong length = status == 206
+                ? totalFromContentRange(response.headers().firstValue("content-range").orElse(""))
+                : response.headers().firstValueAsLong("content-length");
+        if (!length.isPresent()) {
+            return "tamanho não informado";
+        }
+        if (length.getAsLong() <= 0) {
+            return "tamanho " + length.getAsLong();
+        }
+
+        bytes.add(length.getAsLong());
+        return null;
+    }
+
+    private static OptionalLong totalFromContentRange(String contentRange) {
+        Matcher matcher = CONTENT_RANGE_TOTAL.matcher(contentRange.trim());
+        return matcher.matches() ? OptionalLong.of(Long.parseLong(matcher.group(1))) : OptionalLong.empty();
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName() + (cause.getMessage() == null ? "" : ": " + cause.getMessage());
+    }
+
+    /**
+     * Link que não passou na verificação e o motivo.
+     */
+    public static final class BrokenLink {
+        private final String url;
+        private final String reason;
+
+        BrokenLink(String url, String reason) {
+            this.url = url;
+            this.reason = reason;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return url + " -> " + reason;
+        }
+    }
+
+    /**
+     * Resultado de uma verificação: totais, links quebrados e vazão.
+     */
+    public static final class LinkReport {
+        private final int total;
+        private final int unique;
+        private final List<BrokenLink> broken;
+        private final long totalBytes;
+        private final long elapsedNanos;
+
+        LinkReport(int total, int unique, List<BrokenLink> broken, long totalBytes, long elapsedNanos) {
+            this.total = total;
+            this.unique = unique;
+            this.broken = Collections.unmodifiableList(broken);
+            this.totalBytes = totalBytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getUnique() {
+            return unique;
+        }
+
+        public List<BrokenLink> getBroken() {
+            return broken;
+        }
+
+        public boolean isHealthy() {
+            return broken.isEmpty();
+        }
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        /**
+         * @return Linha única com os totais da verificação
+         */
+        public String summary() {
+            double seconds = Math.max(elapsedNanos, 1) / 1e9;
+            return String.format(Locale.ROOT, "Links: %d recebidos, %d distintos, %d quebrados em %d ms "
+                            + "(%.0f verificações/s, %d MB anunciados)",
+                    total, unique, broken.size(), getElapsedMillis(), unique / seconds, totalBytes / (1024 * 1024));
+        }
+
+        /**
+         * @return Resumo seguido de até maxLines links quebrados, agrupados pelo motivo
+         */
+        public String render(int maxLines) {
+            StringBuilder text = new StringBuilder(summary()).append('\n');
+            Map<String, Integer> byReason = new LinkedHashMap<>();
+            broken.forEach(link -> byReason.merge(link.getReason(), 1, Integer::sum));
+            byReason.forEach((reason, count) -> text.append(String.format("  %6d x %s%n", count, reason)));
+            broken.stream().limit(maxLines).forEach(link -> text.append("  ").append(link).append('\n'));
+            if (broken.size() > maxLines) {
+                text.append("  ... ").append(broken.size() - maxLines).append(" links omitidos\n");
+            }
+            return text.toString();
+        }
+
+        @Override
+        public String toString() {
+            return summary();
+        }
+    }
+}
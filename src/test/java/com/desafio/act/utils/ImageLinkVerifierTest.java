@@ -0,0 +1,36 @@
+package com.desafio.act.utils;
+
+import com.desafio.act.utils.ImageLinkVerifier.LinkReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Tratamento de URLs que não podem ser consultadas pelo {@link ImageLinkVerifier}.
+ */
+@DisplayName("Verificação de links de imagem")
+public class ImageLinkVerifierTest {
+
+    @Test
+    @DisplayName("Registra URLs relativas ou sem esquema como quebradas, sem ocupar a vaga do host")
+    public void deveRegistrarUrlsSemEsquemaComoQuebradas() {
+        ImageLinkVerifier verifier = new ImageLinkVerifier(1, Duration.ofSeconds(1),
+                ImageLinkVerifier.Method.HEAD, HttpClient.Version.HTTP_1_1);
+        List<String> urls = List.of("n02085620_10074.jpg", "/breeds/hound-afghan/n02088094_1003.jpg",
+                "ftp://images.dog.ceo/breeds/akita/512.jpg");
+
+        // Com uma única vaga por host, uma vaga perdida faria a segunda verificação esperar para sempre
+        for (int round = 0; round < 2; round++) {
+            LinkReport report = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> verifier.verify(urls));
+
+            Assertions.verifyEquality(3, report.getBroken().size(), "Todas as URLs devem ser registradas como quebradas");
+            Assertions.verifyTrue(report.getBroken().stream().allMatch(link -> link.getReason().startsWith("URL inválida")),
+                    "O motivo deve indicar URL inválida: " + report.getBroken());
+        }
+    }
+}
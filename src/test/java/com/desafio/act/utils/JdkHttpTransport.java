@@ -0,0 +1,143 @@
+package com.desafio.act.utils;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transporte sobre java.net.http.HttpClient. É registrado como último filtro da especificação base:
+ * os filtros anteriores (log em falhas, anexos do Allure) continuam vendo a troca normalmente, mas a
+ * requisição é enviada pelo cliente do JDK, que mantém conexões persistentes e multiplexa as
+ * requisições em HTTP/2 quando o servidor negocia o protocolo (ALPN em https).
+ */
+public class JdkHttpTransport implements HttpTransport, OrderedFilter {
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final LongAdder http2Requests = new LongAdder();
+    private final LongAdder http11Requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * @param version          Versão preferida (HTTP_2 ou HTTP_1_1)
+     * @param connectTimeoutMs Tempo máximo para abrir a conexão
+     * @param requestTimeoutMs Tempo máximo de cada requisição
+     */
+    public JdkHttpTransport(String version, int connectTimeoutMs, int requestTimeoutMs) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.valueOf(version))
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+    }
+
+    @Override
+    public String name() {
+        return "jdk";
+    }
+
+    @Override
+    public void configure(RequestSpecBuilder template) {
+        template.addFilter(this);
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+                .timeout(requestTimeout)
+                .method(requestSpec.getMethod(), bodyPublisher(requestSpec.getBody()));
+
+        boolean hasContentType = false;
+        for (Header header : requestSpec.getHeaders()) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                request.header(header.getName(), header.getValue());
+                hasContentType |= name.equals("content-type");
+            }
+        }
+        if (!hasContentType && requestSpec.getContentType() != null) {
+            request.header("Content-Type", requestSpec.getContentType());
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            failures.increment();
+            throw new UncheckedIOException("Falha na requisição " + requestSpec.getMethod() + " " + requestSpec.getURI(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Requisição interrompida: " + requestSpec.getURI(), e);
+        }
+
+        (response.version() == HttpClient.Version.HTTP_2 ? http2Requests : http11Requests).increment();
+        return toResponse(response);
+    }
+
+    @Override
+    public String statistics() {
+        return String.format("Transporte jdk: %d requisições HTTP/2, %d HTTP/1.1, %d falhas de E/S "
+                        + "(o java.net.http não expõe contadores de conexões)",
+                http2Requests.sum(), http11Requests.sum(), failures.sum());
+    }
+
+    @Override
+    public void close() {
+        // O HttpClient do JDK 17 não tem close(); suas conexões e threads são liberadas pelo GC.
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (body instanceof byte[]) {
+            return HttpRequest.BodyPublishers.ofByteArray((byte[]) body);
+        }
+        return HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocol + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(response.headers().firstValue("content-type").orElse(""))
+                .setBody(response.body())
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.desafio.act.utils;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Documento JSON de uma resposta, interpretado uma única vez (na primeira consulta).
+ * O documento fica associado à própria Response por um mapa de chaves fracas: qualquer thread que
+ * consulte a mesma resposta reaproveita o mesmo documento, e ele é descartado junto com a resposta.
+ * Caminhos no formato "campo.subcampo[0]" são compilados para JSON Pointer e reaproveitados,
+ * sem a avaliação de expressões GPath (Groovy) usada por response.jsonPath().
+ */
+public class JsonDocument {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ConcurrentHashMap<String, JsonPointer> COMPILED_PATHS = new ConcurrentHashMap<>();
+    // Response não sobrescreve equals/hashCode, então as chaves são comparadas por identidade.
+    // O documento guarda só o corpo, nunca a Response, para não impedir a coleta da chave.
+    private static final Map<Response, JsonDocument> DOCUMENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final byte[] body;
+    private volatile JsonNode root;
+
+    private JsonDocument(byte[] body) {
+        this.body = body;
+    }
+
+    /**
+     * Obtém o documento de uma resposta. Consultas repetidas à mesma resposta, em qualquer thread,
+     * reutilizam o documento já interpretado.
+     *
+     * @param response Response da requisição
+     * @return Documento JSON da resposta
+     */
+    public static JsonDocument of(Response response) {
+        JsonDocument document = DOCUMENTS.get(response);
+        if (document != null) {
+            return document;
+        }
+
+        // O corpo é lido fora do lock; se outra thread associar um documento antes, ele prevalece
+        JsonDocument created = new JsonDocument(response.asByteArray());
+        JsonDocument existing = DOCUMENTS.putIfAbsent(response, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * @param json Conteúdo JSON
+     * @return Documento sobre o conteúdo informado
+     */
+    public static JsonDocument parse(byte[] json) {
+        return new JsonDocument(json);
+    }
+
+    /**
+     * @param path Caminho do campo (ex.: "message" ou "message.hound[0]")
+     * @return Valor textual do campo, ou null se não existir. Arrays e objetos são renderizados
+     *         no mesmo formato de response.jsonPath().getString()
+     */
+    public String getString(String path) {
+        JsonNode node = node(path);
+        return node == null ? null : render(node);
+    }
+
+    /**
+     * @param path Caminho de um array
+     * @return Elementos do array como texto, ou lista vazia se o campo não existir
+     */
+    public List<String> getList(String path) {
+        JsonNode node = node(path);
+        if (node == null || !node.isArray()) {
+            return Collections.emptyList();
+        }
+
+        List<String> values = new ArrayList<>(node.size());
+        node.forEach(element -> values.add(render(element)));
+        return values;
+    }
+
+    /**
+     * @param path Caminho de um objeto
+     * @return Objeto convertido em mapa (valores como String, List ou Map), ou mapa vazio se não existir
+     */
+    public Map<String, Object> getMap(String path) {
+        JsonNode node = node(path);
+        if (node == null || !node.isObject()) {
+            return Collections.emptyMap();
+        }
+        return MAPPER.convertValue(node, new TypeReference<Map<String, Object>>() { });
+    }
+
+    /**
+     * @param path Caminho do campo
+     * @return Nó JSON do campo, ou null se não existir
+     */
+    public JsonNode node(String path) {
+        JsonNode node = root().at(COMPILED_PATHS.computeIfAbsent(path, JsonDocument::compile));
+        return node.isMissingNode() || node.isNull() ? null : node;
+    }
+
+    private JsonNode root() {
+        JsonNode parsed = root;
+        if (parsed == null) {
+            synchronized (this) {
+                parsed = root;
+                if (parsed == null) {
+                    try {
+                        parsed = MAPPER.readTree(body);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Corpo da resposta não é um JSON válido", e);
+                    }
+                    root = parsed;
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Converte "a.b[0]" em "/a/b/0".
+     */
+    private static JsonPointer compile(String path) {
+        StringBuilder pointer = new StringBuilder();
+
+        for (String segment : path.split("\\.")) {
+            int bracket = segment.indexOf('[');
+            String name = bracket < 0 ? segment : segment.substring(0, bracket);
+            if (!name.isEmpty()) {
+                pointer.append('/').append(name.replace("~", "~0").replace("/", "~1"));
+            }
+
+            while (bracket >= 0) {
+                int close = segment.indexOf(']', bracket);
+                pointer.append('/').append(segment, bracket + 1, close);
+                bracket = segment.indexOf('[', close);
+            }
+        }
+
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    private static String render(JsonNode node) {
+        if (node.isValueNode()) {
+            return node.asText();
+        }
+
+        StringBuilder text = new StringBuilder("[");
+        if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                text.append(i > 0 ? ", " : "").append(render(node.get(i)));
+            }
+        } else if (node.size() == 0) {
+            text.append(':');
+        } else {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                text.append(field.getKey()).append(':').append(render(field.getValue()));
+                text.append(fields.hasNext() ? ", " : "");
+            }
+        }
+        return text.append(']').toString();
+    }
+}
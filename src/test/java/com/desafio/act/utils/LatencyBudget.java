@@ -0,0 +1,95 @@
+package com.desafio.act.utils;
+
+import org.json.JSONException;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Orçamento de latência declarado em fixture: parâmetros da medição (aquecimento e amostras)
+ * e limites, em milissegundos, para p50, p95, p99 e máximo.
+ *
+ * Formato esperado no JSON de fixture:
+ * <pre>
+ * "latencia_esperada": {
+ *   "aquecimento": 3, "amostras": 20,
+ *   "p50_ms": 1000, "p95_ms": 2000, "p99_ms": 2500, "max_ms": 3000
+ * }
+ * </pre>
+ */
+public class LatencyBudget {
+
+    private final int warmupIterations;
+    private final int samples;
+    private final long p50Millis;
+    private final long p95Millis;
+    private final long p99Millis;
+    private final long maxMillis;
+
+    public LatencyBudget(int warmupIterations, int samples, long p50Millis, long p95Millis, long p99Millis,
+                         long maxMillis) {
+        this.warmupIterations = warmupIterations;
+        this.samples = samples;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * Carrega o orçamento de um campo do JSON de fixture.
+     *
+     * @param fileName  Nome do arquivo JSON de fixture
+     * @param fieldName Nome do campo com o orçamento
+     * @return Orçamento de latência
+     * @throws IOException Se houver erro ao ler o arquivo
+     */
+    public static LatencyBudget fromFixture(String fileName, String fieldName) throws IOException {
+        Map<String, Object> budget = FixtureUtils.getObjectFromFixture(fileName, fieldName);
+        return new LatencyBudget(
+                number(budget, "aquecimento").intValue(),
+                number(budget, "amostras").intValue(),
+                number(budget, "p50_ms").longValue(),
+                number(budget, "p95_ms").longValue(),
+                number(budget, "p99_ms").longValue(),
+                number(budget, "max_ms").longValue());
+    }
+
+    private static Number number(Map<String, Object> budget, String key) {
+        Object value = budget.get(key);
+        if (!(value instanceof Number)) {
+            throw new JSONException("Campo '" + key + "' do orçamento de latência ausente ou não numérico");
+        }
+        return (Number) value;
+    }
+
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public long getP50Millis() {
+        return p50Millis;
+    }
+
+    public long getP95Millis() {
+        return p95Millis;
+    }
+
+    public long getP99Millis() {
+        return p99Millis;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50 <= %dms, p95 <= %dms, p99 <= %dms, max <= %dms (%d amostras após %d de aquecimento)",
+                p50Millis, p95Millis, p99Millis, maxMillis, samples, warmupIterations);
+    }
+}
@@ -0,0 +1,217 @@
+package com.desafio.act.utils;
+
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Mede a latência de uma requisição repetida N vezes, descartando as iterações de aquecimento.
+ * Cada amostra é medida com System.nanoTime e registrada em microssegundos num histograma HDR.
+ * Para requisições do {@link HttpUtils}, a amostra é a duração da tentativa que produziu a resposta,
+ * sem as esperas do controle de ritmo; para as demais, o tempo total da chamada.
+ * As amostras bem-sucedidas e não revalidadas de cada medição também ficam guardadas, pelo nome da
+ * medição, para o histórico de latência entre execuções ({@link LatencyStore}). Cada série guarda no
+ * máximo latency.history.max.samples amostras, escolhidas por amostragem de reservatório, para que
+ * medições repetidas numa execução longa não acumulem memória sem limite.
+ */
+public class LatencyMeter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyMeter.class);
+    private static final Map<String, Reservoir> RECORDED = new ConcurrentHashMap<>();
+
+    /**
+     * @param name    Nome da medição (ex.: "GET /breeds/list/all")
+     * @param budget  Orçamento que define aquecimento e quantidade de amostras
+     * @param request Requisição a ser medida
+     * @return Resultado com o histograma das amostras
+     */
+    public static LatencyResult measure(String name, LatencyBudget budget, Supplier<Response> request) {
+        return measure(name, budget.getWarmupIterations(), budget.getSamples(), request);
+    }
+
+    /**
+     * @param name             Nome da medição (ex.: "GET /breeds/list/all")
+     * @param warmupIterations Iterações executadas e descartadas antes da medição
+     * @param samples          Quantidade de amostras registradas
+     * @param request          Requisição a ser medida
+     * @return Resultado com o histograma das amostras
+     */
+    public static LatencyResult measure(String name, int warmupIterations, int samples, Supplier<Response> request) {
+        logger.info("Medindo latência de {}: {} iterações de aquecimento, {} amostras", name, warmupIterations, samples);
+
+        for (int i = 0; i < warmupIterations; i++) {
+            request.get();
+        }
+
+        Histogram histogram = new Histogram(3);
+        List<Long> recorded = new ArrayList<>(samples);
+        Response lastResponse = null;
+        int errors = 0;
+
+        for (int i = 0; i < samples; i++) {
+            HttpUtils.takeLastAttemptNanos();
+            long start = System.nanoTime();
+            lastResponse = request.get();
+            long elapsed = System.nanoTime() - start;
+            long attempt = HttpUtils.takeLastAttemptNanos();
+            long nanos = attempt >= 0 ? attempt : elapsed;
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+
+            if (lastResponse.getStatusCode() >= 400) {
+                errors++;
+            } else if (!HttpUtils.wasRevalidated(lastResponse)) {
+                recorded.add(nanos);
+            }
+        }
+        RECORDED.computeIfAbsent(name.trim(), key -> new Reservoir(Config.getInt("latency.history.max.samples", 2000)))
+                .addAll(recorded);
+
+        return new LatencyResult(name, histogram, lastResponse, errors);
+    }
+
+    /**
+     * Amostras guardadas pelas medições desta execução. Acima de maxPerSeries, as amostras são reduzidas
+     * por amostragem sistemática sobre os valores ordenados.
+     *
+     * @param maxPerSeries Máximo de amostras por série
+     * @return Latências em nanossegundos, em ordem crescente, por nome da medição
+     */
+    public static Map<String, long[]> recordedSamples(int maxPerSeries) {
+        Map<String, long[]> samples = new TreeMap<>();
+        RECORDED.forEach((name, reservoir) -> {
+            long[] sorted = reservoir.snapshot();
+            Arrays.sort(sorted);
+            if (sorted.length == 0) {
+                return;
+            }
+            int size = Math.min(sorted.length, Math.max(1, maxPerSeries));
+            long[] selected = new long[size];
+            double stride = (double) sorted.length / size;
+            for (int i = 0; i < size; i++) {
+                selected[i] = sorted[(int) (i * stride)];
+            }
+            samples.put(name, selected);
+        });
+        return samples;
+    }
+
+    /**
+     * Amostra uniforme de tamanho fixo das latências de uma série (algoritmo R de Vitter).
+     */
+    private static final class Reservoir {
+
+        private final long[] values;
+        private int size;
+        private long seen;
+
+        private Reservoir(int capacity) {
+            this.values = new long[Math.max(1, capacity)];
+        }
+
+        private synchronized void addAll(List<Long> samples) {
+            for (long nanos : samples) {
+                seen++;
+                if (size < values.length) {
+                    values[size++] = nanos;
+                } else {
+                    long slot = ThreadLocalRandom.current().nextLong(seen);
+                    if (slot < values.length) {
+                        values[(int) slot] = nanos;
+                    }
+                }
+            }
+        }
+
+        private synchronized long[] snapshot() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Resultado de uma medição de latência.
+     */
+    public static class LatencyResult {
+
+        private final String name;
+        private final Histogram histogram;
+        private final Response lastResponse;
+        private final int errors;
+
+        private LatencyResult(String name, Histogram histogram, Response lastResponse, int errors) {
+            this.name = name;
+            this.histogram = histogram;
+            this.lastResponse = lastResponse;
+            this.errors = errors;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public Response getLastResponse() {
+            return lastResponse;
+        }
+
+        /**
+         * @return Quantidade de amostras com status HTTP de erro (4xx/5xx)
+         */
+        public int getErrors() {
+            return errors;
+        }
+
+        /**
+         * @param percentile Percentil entre 0 e 100
+         * @return Latência do percentil, em milissegundos
+         */
+        public double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        /**
+         * @return Maior latência registrada, em milissegundos
+         */
+        public double maxMillis() {
+            return histogram.getMaxValue() / 1000.0;
+        }
+
+        /**
+         * @return Resumo de uma linha com os percentis principais
+         */
+        public String summary() {
+            return String.format("%s: p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms (%d amostras)",
+                    name, percentileMillis(50), percentileMillis(95), percentileMillis(99), maxMillis(),
+                    histogram.getTotalCount());
+        }
+
+        /**
+         * @return Distribuição completa de percentis, em milissegundos, no formato do HdrHistogram
+         */
+        public String render() {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (PrintStream printStream = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+                printStream.println(summary());
+                printStream.println();
+                histogram.outputPercentileDistribution(printStream, 5, 1000.0);
+            }
+            return output.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.desafio.act.utils;
+
+import com.desafio.act.utils.LatencyStore.Run;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Detecção de regressão de latência entre execuções: compara as amostras da execução mais recente de cada
+ * série com a linha de base formada pelas latency.baseline.runs execuções anteriores, usando o teste U de
+ * Mann-Whitney (unilateral, sem suposição de normalidade, com correção de empates).
+ *
+ * Uma série regrediu quando o p-valor fica abaixo de latency.regression.alpha e o tamanho de efeito
+ * A de Vargha-Delaney, a probabilidade de uma requisição atual ser mais lenta que uma da linha de base,
+ * atinge latency.regression.min.effect (0,64 é considerado efeito médio). Exigir as duas coisas evita
+ * alarmes por diferenças estatisticamente significativas, mas irrelevantes, em amostras grandes.
+ */
+public class LatencyRegression {
+
+    private final int baselineRuns;
+    private final int minSamples;
+    private final double alpha;
+    private final double minEffect;
+
+    /**
+     * @param baselineRuns Quantidade de execuções anteriores que formam a linha de base
+     * @param minSamples Mínimo de amostras na execução atual e na linha de base
+     * @param alpha Nível de significância
+     * @param minEffect Tamanho de efeito A mínimo para considerar regressão
+     */
+    public LatencyRegression(int baselineRuns, int minSamples, double alpha, double minEffect) {
+        this.baselineRuns = Math.max(1, baselineRuns);
+        this.minSamples = Math.max(2, minSamples);
+        this.alpha = alpha;
+        this.minEffect = minEffect;
+    }
+
+    /**
+     * Cria o detector a partir das propriedades latency.* do test.properties.
+     *
+     * @return Detector configurado
+     */
+    public static LatencyRegression fromConfig() {
+        return new LatencyRegression(
+                Config.getInt("latency.baseline.runs", 5),
+                Config.getInt("latency.regression.min.samples", 10),
+                Config.getDouble("latency.regression.alpha", 0.01),
+                Config.getDouble("latency.regression.min.effect", 0.64));
+    }
+
+    /**
+     * Compara a execução mais recente do store com a linha de base de cada série que participou dela.
+     *
+     * @param store Série temporal de latências
+     * @return Uma comparação por série com amostras suficientes
+     * @throws IOException se o store não puder ser lido
+     */
+    public List<Finding> checkLatest(LatencyStore store) throws IOException {
+        List<Run> all = store.query(null, null, null);
+        Instant latest = all.stream().map(Run::getTimestamp).max(Instant::compareTo).orElse(null);
+
+        List<Finding> findings = new ArrayList<>();
+        if (latest == null) {
+            return findings;
+        }
+        for (String series : store.series()) {
+            List<Run> runs = store.query(series, null, null);
+            Run current = runs.get(runs.size() - 1);
+            if (!current.getTimestamp().equals(latest) || current.getMicros().length < minSamples) {
+                continue;
+            }
+
+            List<Run> baseline = runs.subList(Math.max(0, runs.size() - 1 - baselineRuns), runs.size() - 1);
+            int[] pooled = baseline.stream().flatMapToInt(run -> Arrays.stream(run.getMicros())).toArray();
+            if (pooled.length >= minSamples) {
+                findings.add(compare(series, current.getMicros(), pooled, baseline.size()));
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * Compara duas amostras com o teste U de Mann-Whitney, na hipótese de a atual ser mais lenta.
+     *
+     * @param series Nome da série
+     * @param current Latências atuais (µs)
+     * @param baseline Latências da linha de base (µs)
+     * @param baselineRunCount Quantidade de execuções que formam a linha de base
+     * @return Resultado da comparação
+     */
+    public Finding compare(String series, int[] current, int[] baseline, int baselineRunCount) {
+        int n1 = current.length;
+        int n2 = baseline.length;
+        long[] combined = new long[n1 + n2];
+        // Valor no bit alto, origem no bit baixo: uma única ordenação de primitivos
+        for (int i = 0; i < n1; i++) {
+            combined[i] = ((long) current[i] << 1) | 1;
+        }
+        for (int i = 0; i < n2; i++) {
+            combined[n1 + i] = (long) baseline[i] << 1;
+        }
+        Arrays.sort(combined);
+
+        double rankSumCurrent = 0;
+        double tieCorrection = 0;
+        int i = 0;
+        while (i < combined.length) {
+            int j = i;
+            while (j + 1 < combined.length && (combined[j + 1] >> 1) == (combined[i] >> 1)) {
+                j++;
+            }
+            double averageRank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if ((combined[k] & 1) == 1) {
+                    rankSumCurrent += averageRank;
+                }
+            }
+            long ties = j - i + 1;
+            tieCorrection += ties * ties * ties - ties;
+            i = j + 1;
+        }
+
+        double u = rankSumCurrent - n1 * (n1 + 1) / 2.0;
+        double mean = (double) n1 * n2 / 2;
+        double n = n1 + n2;
+        double sigma = Math.sqrt((double) n1 * n2 / 12 * ((n + 1) - tieCorrection / (n * (n - 1))));
+        double z = sigma == 0 ? 0 : (u - mean - 0.5) / sigma;
+        double pValue = 0.5 * erfc(z / Math.sqrt(2));
+        double effect = u / ((double) n1 * n2);
+
+        return new Finding(series, n1, n2, baselineRunCount, median(current), median(baseline), effect, pValue,
+                pValue < alpha && effect >= minEffect);
+    }
+
+    private static double median(int[] micros) {
+        int[] sorted = micros.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    /**
+     * Função erro complementar (Abramowitz e Stegun 7.1.26, erro absoluto abaixo de 1,5e-7).
+     */
+    private static double erfc(double x) {
+        double t = 1 / (1 + 0.3275911 * Math.abs(x));
+        double polynomial = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))));
+        double erfcAbs = polynomial * Math.exp(-x * x);
+        return x >= 0 ? erfcAbs : 2 - erfcAbs;
+    }
+
+    /**
+     * Resultado da comparação de uma série com sua linha de base.
+     */
+    public static final class Finding {
+        private final String series;
+        private final int currentSamples;
+        private final int baselineSamples;
+        private final int baselineRuns;
+        private final double currentMedianMicros;
+        private final double baselineMedianMicros;
+        private final double effect;
+        private final double pValue;
+        private final boolean regression;
+
+        Finding(String series, int currentSamples, int baselineSamples, int baselineRuns, double currentMedianMicros,
+                double baselineMedianMicros, double effect, double pValue, boolean regression) {
+            this.series = series;
+            this.currentSamples = currentSamples;
+            this.baselineSamples = baselineSamples;
+            this.baselineRuns = baselineRuns;
+            this.currentMedianMicros = currentMedianMicros;
+            this.baselineMedianMicros = baselineMedianMicros;
+            this.effect = effect;
+            this.pValue = pValue;
+            this.regression = regression;
+        }
+
+        public String getSeries() {
+            return series;
+        }
+
+        /**
+         * @return Probabilidade de uma requisição atual ser mais lenta que uma da linha de base (A de Vargha-Delaney)
+         */
+        public double getEffect() {
+            return effect;
+        }
+
+        public double getPValue() {
+            return pValue;
+        }
+
+        public boolean isRegression() {
+            return regression;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s %s: mediana %.2f ms vs %.2f ms (%+.0f%%), A=%.2f, p=%.2g, "
+                            + "n=%d contra %d de %d execuções",
+                    regression ? "REGRESSÃO" : "ok", series, currentMedianMicros / 1000, baselineMedianMicros / 1000,
+                    baselineMedianMicros == 0 ? 0 : 100 * (currentMedianMicros / baselineMedianMicros - 1),
+                    effect, pValue, currentSamples, baselineSamples, baselineRuns);
+        }
+    }
+}
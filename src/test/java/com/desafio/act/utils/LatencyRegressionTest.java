@@ -0,0 +1,82 @@
+package com.desafio.act.utils;
+
+import com.desafio.act.utils.LatencyRegression.Finding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Limiares do teste U de Mann-Whitney e do efeito A de Vargha-Delaney em {@link LatencyRegression},
+ * com amostras sintéticas fixas.
+ */
+@DisplayName("Detecção de regressão de latência")
+public class LatencyRegressionTest {
+
+    private final LatencyRegression regression = new LatencyRegression(5, 10, 0.01, 0.64);
+
+    @Test
+    @DisplayName("Amostras idênticas não indicam regressão")
+    public void naoDeveIndicarRegressaoComAmostrasIdenticas() {
+        int[] samples = range(1000, 50);
+
+        Finding finding = regression.compare("stub GET /idem", samples, samples, 5);
+
+        Assertions.verifyEquality(0.5, finding.getEffect(), "Amostras idênticas empatam: A = 0,5");
+        Assertions.verifyTrue(finding.getPValue() > 0.4, "p deve ser alto, foi " + finding.getPValue());
+        Assertions.verifyTrue(!finding.isRegression(), "Amostras idênticas não são regressão");
+    }
+
+    @Test
+    @DisplayName("Amostra atual inteiramente mais lenta indica regressão")
+    public void deveIndicarRegressaoComAmostraMaisLenta() {
+        Finding finding = regression.compare("stub GET /lento", range(2000, 50), range(1000, 50), 5);
+
+        Assertions.verifyEquality(1.0, finding.getEffect(), "Toda amostra atual supera a linha de base: A = 1");
+        Assertions.verifyTrue(finding.getPValue() < 0.01, "p deve ficar abaixo de alpha, foi " + finding.getPValue());
+        Assertions.verifyTrue(finding.isRegression(), "Deslocamento total deve ser regressão");
+    }
+
+    @Test
+    @DisplayName("Diferença significativa com efeito pequeno não indica regressão")
+    public void naoDeveIndicarRegressaoComEfeitoPequeno() {
+        // Deslocamento de 10% da amplitude: com 1000 amostras o p é ínfimo, mas A fica perto de 0,595
+        Finding finding = regression.compare("stub GET /leve", range(1100, 1000), range(1000, 1000), 5);
+
+        Assertions.verifyTrue(finding.getPValue() < 0.01, "p deve ficar abaixo de alpha, foi " + finding.getPValue());
+        Assertions.verifyTrue(finding.getEffect() > 0.55 && finding.getEffect() < 0.64,
+                "A deve ficar abaixo do efeito mínimo, foi " + finding.getEffect());
+        Assertions.verifyTrue(!finding.isRegression(), "Efeito abaixo de min.effect não é regressão");
+    }
+
+    @Test
+    @DisplayName("Compara a última execução do store com as execuções anteriores")
+    public void deveCompararUltimaExecucaoComLinhaDeBase(@TempDir Path dir) throws IOException {
+        LatencyStore store = new LatencyStore(dir.resolve("latency.store"));
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int run = 0; run < 6; run++) {
+            store.append(start.plusSeconds(run), Map.of("stub GET /serie", nanos(1000, 20)));
+        }
+        store.append(start.plusSeconds(6), Map.of("stub GET /serie", nanos(3000, 20)));
+
+        List<Finding> findings = regression.checkLatest(store);
+
+        Assertions.verifyEquality(1, findings.size(), "A série da última execução deve ser comparada");
+        Assertions.verifyTrue(findings.get(0).isRegression(), "A última execução é mais lenta que as anteriores");
+    }
+
+    private static int[] range(int first, int count) {
+        return IntStream.range(first, first + count).toArray();
+    }
+
+    private static long[] nanos(int firstMicros, int count) {
+        return LongStream.range(firstMicros, firstMicros + count).map(micros -> micros * 1000).toArray();
+    }
+}
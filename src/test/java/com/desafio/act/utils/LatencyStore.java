@@ -0,0 +1,265 @@
+package com.desafio.act.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Série temporal local de latências por endpoint, acumulada entre execuções da suite.
+ * O arquivo só recebe acréscimos: cada execução grava um registro por série e as leituras percorrem o
+ * arquivo mapeado em memória, pulando registros pelo tamanho sem decodificar as amostras.
+ *
+ * Formato (big-endian): cabeçalho [magic 8][versão 4] seguido de registros
+ * [tamanho 4][instante da execução em ms 8][série: tamanho 2 + UTF-8][quantidade 4][latências em µs 4 cada].
+ * Um registro só é aceito se o tamanho declarado bater com o nome e a quantidade de amostras; antes de
+ * cada gravação, um final incompleto (execução interrompida durante a escrita) é truncado.
+ */
+public class LatencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyStore.class);
+
+    private static final long MAGIC = 0x444F474C41543031L; // "DOGLAT01"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+
+    private final Path file;
+
+    /**
+     * @param file Arquivo da série temporal (criado na primeira gravação)
+     */
+    public LatencyStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Cria o store a partir de latency.history.file.
+     *
+     * @return Store configurado
+     */
+    public static LatencyStore fromConfig() {
+        return new LatencyStore(Path.of(Config.get("latency.history.file")));
+    }
+
+    /**
+     * Acrescenta as amostras de uma execução.
+     *
+     * @param timestamp Instante da execução
+     * @param samples Latências em nanossegundos por série
+     * @throws IOException se o arquivo não puder ser gravado
+     */
+    public synchronized void append(Instant timestamp, Map<String, long[]> samples) throws IOException {
+        if (samples.isEmpty()) {
+            return;
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        int size = 0;
+        List<byte[]> names = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : samples.entrySet()) {
+            byte[] series = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            names.add(series);
+            size += 4 + 8 + 2 + series.length + 4 + 4 * entry.getValue().length;
+        }
+        // Todos os registros da execução numa única escrita
+        ByteBuffer records = ByteBuffer.allocate(size);
+        int index = 0;
+        for (long[] values : samples.values()) {
+            byte[] series = names.get(index++);
+            records.putInt(8 + 2 + series.length + 4 + 4 * values.length)
+                    .putLong(timestamp.toEpochMilli())
+                    .putShort((short) series.length)
+                    .put(series)
+                    .putInt(values.length);
+            for (long nanos : values) {
+                records.putInt((int) Math.min(Integer.MAX_VALUE, Math.max(1, nanos / 1000)));
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            if (channel.size() == 0) {
+                channel.write(ByteBuffer.allocate(HEADER_SIZE).putLong(MAGIC).putInt(VERSION).flip());
+            } else {
+                long valid = validLength(channel);
+                if (valid < channel.size()) {
+                    logger.warn("Descartando {} bytes de um registro incompleto no fim de {}", channel.size() - valid, file);
+                    channel.truncate(valid);
+                }
+            }
+            channel.position(channel.size());
+            records.flip();
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+        }
+    }
+
+    /**
+     * Consulta as execuções de uma série em um intervalo de datas.
+     *
+     * @param series Série ("ambiente medição", ex.: "stub GET /breeds/list/all"), ou null para todas
+     * @param from Início do intervalo (inclusivo), ou null
+     * @param to Fim do intervalo (exclusivo), ou null
+     * @return Execuções em ordem cronológica
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    public List<Run> query(String series, Instant from, Instant to) throws IOException {
+        if (!Files.exists(file)) {
+            return Collections.emptyList();
+        }
+
+        List<Run> runs = new ArrayList<>();
+        long fromMillis = from == null ? Long.MIN_VALUE : from.toEpochMilli();
+        long toMillis = to == null ? Long.MAX_VALUE : to.toEpochMilli();
+        ByteBuffer buffer = map();
+        int next;
+        // Para no primeiro registro incompleto ou inconsistente (execução interrompida durante a gravação)
+        while ((next = recordEnd(buffer, buffer.position())) >= 0) {
+            buffer.getInt();
+            long timestamp = buffer.getLong();
+            String name = readText(buffer);
+            if ((series == null || series.equals(name)) && timestamp >= fromMillis && timestamp < toMillis) {
+                int[] micros = new int[buffer.getInt()];
+                buffer.asIntBuffer().get(micros);
+                runs.add(new Run(name, Instant.ofEpochMilli(timestamp), micros));
+            }
+            buffer.position(next);
+        }
+        return runs;
+    }
+
+    /**
+     * @return Séries presentes no arquivo, em ordem alfabética
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    public Set<String> series() throws IOException {
+        Set<String> names = new TreeSet<>();
+        if (!Files.exists(file)) {
+            return names;
+        }
+
+        ByteBuffer buffer = map();
+        int next;
+        while ((next = recordEnd(buffer, buffer.position())) >= 0) {
+            buffer.getInt();
+            buffer.getLong();
+            names.add(readText(buffer));
+            buffer.position(next);
+        }
+        return names;
+    }
+
+    /**
+     * @return Arquivo da série temporal
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    private ByteBuffer map() throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        checkHeader(mapped);
+        return mapped;
+    }
+
+    /**
+     * Tamanho do arquivo até o fim do último registro válido. Lido para a heap, e não mapeado, para que o
+     * arquivo possa ser truncado em seguida mesmo em sistemas que não truncam arquivos mapeados.
+     */
+    private long validLength(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // Lê o arquivo inteiro
+        }
+        buffer.flip();
+        checkHeader(buffer);
+        int end;
+        while ((end = recordEnd(buffer, buffer.position())) >= 0) {
+            buffer.position(end);
+        }
+        return buffer.position();
+    }
+
+    private void checkHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getLong() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Arquivo de latências inválido ou de outra versão: " + file);
+        }
+    }
+
+    /**
+     * @return Posição logo após o registro que começa em position, ou -1 se ele estiver incompleto ou se o
+     * tamanho declarado não bater com o nome e a quantidade de amostras
+     */
+    private static int recordEnd(ByteBuffer buffer, int position) {
+        if (buffer.limit() - position < 4) {
+            return -1;
+        }
+        int length = buffer.getInt(position);
+        long end = (long) position + 4 + length;
+        if (length < 8 + 2 + 4 || end > buffer.limit()) {
+            return -1;
+        }
+        int countOffset = position + 4 + 8 + 2 + (buffer.getShort(position + 12) & 0xFFFF);
+        if (countOffset + 4L > end) {
+            return -1;
+        }
+        int count = buffer.getInt(countOffset);
+        return count >= 0 && countOffset + 4 + 4L * count == end ? (int) end : -1;
+    }
+
+    private static String readText(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Amostras de uma série em uma execução.
+     */
+    public static final class Run {
+        private final String series;
+        private final Instant timestamp;
+        private final int[] micros;
+
+        Run(String series, Instant timestamp, int[] micros) {
+            this.series = series;
+            this.timestamp = timestamp;
+            this.micros = micros;
+        }
+
+        public String getSeries() {
+            return series;
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return Latências em microssegundos
+         */
+        public int[] getMicros() {
+            return micros;
+        }
+    }
+}
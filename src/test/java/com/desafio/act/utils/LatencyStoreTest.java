@@ -0,0 +1,73 @@
+package com.desafio.act.utils;
+
+import com.desafio.act.utils.LatencyStore.Run;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gravação e leitura do {@link LatencyStore}, incluindo a recuperação de um registro incompleto.
+ */
+@DisplayName("Série temporal de latências")
+public class LatencyStoreTest {
+
+    private static final Instant FIRST = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant SECOND = FIRST.plusSeconds(60);
+
+    @Test
+    @DisplayName("Lê de volta as séries e amostras gravadas, em microssegundos")
+    public void deveLerDeVoltaAsAmostrasGravadas(@TempDir Path dir) throws IOException {
+        LatencyStore store = new LatencyStore(dir.resolve("latency.store"));
+        Map<String, long[]> first = new LinkedHashMap<>();
+        first.put("stub GET /breeds/list/all", new long[]{1_500_000, 2_000_000, 999});
+        first.put("stub GET /breed/hound/images", new long[]{3_000_000});
+        store.append(FIRST, first);
+        store.append(SECOND, Map.of("stub GET /breeds/list/all", new long[]{4_000_000}));
+
+        Assertions.verifyEquality(Set.of("stub GET /breeds/list/all", "stub GET /breed/hound/images"), store.series(),
+                "Todas as séries gravadas devem ser listadas");
+
+        List<Run> runs = store.query("stub GET /breeds/list/all", null, null);
+        Assertions.verifyEquality(2, runs.size(), "A série deve ter uma execução por gravação");
+        Assertions.verifyEquality(FIRST, runs.get(0).getTimestamp(), "Instante da primeira execução");
+        // Abaixo de 1 µs a amostra é arredondada para 1
+        Assertions.verifyEquality("[1500, 2000, 1]", Arrays.toString(runs.get(0).getMicros()),
+                "Amostras da primeira execução em µs");
+        Assertions.verifyEquality("[4000]", Arrays.toString(runs.get(1).getMicros()), "Amostras da segunda execução");
+
+        Assertions.verifyEquality(1, store.query("stub GET /breeds/list/all", SECOND, null).size(),
+                "O filtro por intervalo deve considerar o instante da execução");
+    }
+
+    @Test
+    @DisplayName("Descarta o registro incompleto antes da próxima gravação")
+    public void deveDescartarRegistroIncompleto(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("latency.store");
+        LatencyStore store = new LatencyStore(file);
+        store.append(FIRST, Map.of("stub GET /a", new long[]{1_000_000, 2_000_000}));
+        long valid = Files.size(file);
+
+        // Simula uma execução interrompida no meio da escrita: tamanho declarado maior que os bytes gravados
+        Files.write(file, new byte[]{0, 0, 0, 40, 0, 0, 0, 0, 0, 0}, StandardOpenOption.APPEND);
+        Assertions.verifyEquality(1, store.query(null, null, null).size(), "O final incompleto deve ser ignorado na leitura");
+
+        store.append(SECOND, Map.of("stub GET /a", new long[]{3_000_000}));
+
+        List<Run> runs = store.query("stub GET /a", null, null);
+        Assertions.verifyEquality(2, runs.size(), "O registro gravado após a recuperação deve ser lido");
+        Assertions.verifyEquality("[3000]", Arrays.toString(runs.get(1).getMicros()), "Amostras após a recuperação");
+        // [tamanho 4][instante 8][nome 2 + 11][quantidade 4][1 amostra 4]
+        Assertions.verifyEquality(valid + 33, Files.size(file), "Os bytes incompletos devem ter sido truncados");
+    }
+}
@@ -0,0 +1,102 @@
+package com.desafio.act.utils;
+
+import com.desafio.act.utils.LatencyRegression.Finding;
+import com.desafio.act.utils.LatencyStore.Run;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Linha de comando do histórico de latências ({@link LatencyStore}):
+ * - trends [filtro] [dias]: percentis por execução de cada série (filtro por trecho do nome) e a
+ *   tendência da mediana;
+ * - check: compara a última execução com a linha de base ({@link LatencyRegression}) e termina com
+ *   código 1 se houver regressão.
+ *
+ * Executada pelo perfil Maven "latency" (mvn verify -Platency, ou -Dlatency.cli.args="trends breed 7").
+ */
+public final class LatencyTrends {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+    private static final char[] SPARKS = "▁▂▃▄▅▆▇█".toCharArray();
+
+    private LatencyTrends() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String command = args.length > 0 ? args[0] : "trends";
+        LatencyStore store = LatencyStore.fromConfig();
+
+        switch (command) {
+            case "trends":
+                trends(store, args.length > 1 ? args[1] : "", args.length > 2 ? Integer.parseInt(args[2]) : 30);
+                break;
+
+            case "check":
+                if (!check(store)) {
+                    System.exit(1);
+                }
+                break;
+
+            default:
+                throw new IllegalArgumentException("Comando desconhecido: " + command + " (use trends ou check)");
+        }
+    }
+
+    private static void trends(LatencyStore store, String filter, int days) throws IOException {
+        Instant from = Instant.now().minus(Duration.ofDays(days));
+        for (String series : store.series()) {
+            if (!series.toLowerCase(Locale.ROOT).contains(filter.toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            List<Run> runs = store.query(series, from, null);
+            if (runs.isEmpty()) {
+                continue;
+            }
+
+            double[] medians = new double[runs.size()];
+            System.out.println(series);
+            for (int i = 0; i < runs.size(); i++) {
+                int[] sorted = runs.get(i).getMicros().clone();
+                Arrays.sort(sorted);
+                medians[i] = percentile(sorted, 50);
+                System.out.printf(Locale.ROOT, "  %s  n=%-5d p50=%8.2f ms  p90=%8.2f ms  p99=%8.2f ms%n",
+                        DATE.format(runs.get(i).getTimestamp()), sorted.length,
+                        medians[i] / 1000, percentile(sorted, 90) / 1000, percentile(sorted, 99) / 1000);
+            }
+            System.out.println("  mediana: " + sparkline(medians));
+        }
+    }
+
+    private static boolean check(LatencyStore store) throws IOException {
+        List<Finding> findings = LatencyRegression.fromConfig().checkLatest(store);
+        if (findings.isEmpty()) {
+            System.out.println("Sem linha de base suficiente em " + store.getFile() + " para comparar a última execução");
+            return true;
+        }
+        findings.forEach(System.out::println);
+        return findings.stream().noneMatch(Finding::isRegression);
+    }
+
+    private static double percentile(int[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static String sparkline(double[] values) {
+        double min = Arrays.stream(values).min().orElse(0);
+        double max = Arrays.stream(values).max().orElse(0);
+        StringBuilder line = new StringBuilder();
+        for (double value : values) {
+            int level = max == min ? SPARKS.length / 2 : (int) Math.round((value - min) / (max - min) * (SPARKS.length - 1));
+            line.append(SPARKS[level]);
+        }
+        return line.append(String.format(Locale.ROOT, "  (%.2f a %.2f ms)", min / 1000, max / 1000)).toString();
+    }
+}
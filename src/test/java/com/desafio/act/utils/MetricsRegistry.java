@@ -0,0 +1,233 @@
+package com.desafio.act.utils;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro de métricas das requisições do {@link HttpUtils}, por método, template de endpoint e status
+ * (respostas revalidadas pelo {@link ValidatorCache} entram com status 304, como vieram da rede).
+ * O caminho de gravação não usa locks: a série é encontrada no ConcurrentHashMap, a contagem e a soma vão
+ * para LongAdders (contadores distribuídos entre células) e a latência para um {@link Recorder} do
+ * HdrHistogram (wait-free). Só a exportação, rara, acumula os intervalos do Recorder sob lock.
+ * Exportações concorrentes (ex.: @AfterAll de classes em paralelo) são serializadas e cada arquivo é
+ * gravado num temporário e movido atomicamente, de forma que um leitor nunca vê um arquivo pela metade.
+ */
+public class MetricsRegistry {
+
+    /**
+     * Status usado nas séries de requisições que terminaram em exceção, sem resposta.
+     */
+    public static final int NO_RESPONSE = -1;
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99, 0.999};
+
+    private final Map<SeriesKey, Timer> series = new ConcurrentHashMap<>();
+
+    /**
+     * Registra uma requisição.
+     *
+     * @param method Método HTTP
+     * @param endpoint Template do endpoint (ver {@link EndpointTemplates})
+     * @param status Status HTTP, ou {@link #NO_RESPONSE}
+     * @param nanos Duração em nanossegundos
+     */
+    public void record(String method, String endpoint, int status, long nanos) {
+        SeriesKey key = new SeriesKey(method, endpoint, status);
+        Timer timer = series.get(key);
+        if (timer == null) {
+            timer = series.computeIfAbsent(key, ignored -> new Timer());
+        }
+        timer.record(nanos);
+    }
+
+    /**
+     * @return Quantidade total de requisições registradas
+     */
+    public long count() {
+        return series.values().stream().mapToLong(timer -> timer.count.sum()).sum();
+    }
+
+    /**
+     * @return Quantidade de séries (combinações de método, endpoint e status)
+     */
+    public int seriesCount() {
+        return series.size();
+    }
+
+    /**
+     * Exporta as métricas no formato texto do Prometheus (summary com quantis, soma, contagem e máximo).
+     *
+     * @param file Arquivo de destino
+     * @throws IOException se o arquivo não puder ser gravado
+     */
+    public synchronized void exportPrometheus(Path file) throws IOException {
+        StringBuilder text = new StringBuilder()
+                .append("# HELP dog_api_http_requests_seconds Duração das requisições HTTP da suite.\n")
+                .append("# TYPE dog_api_http_requests_seconds summary\n");
+        StringBuilder max = new StringBuilder()
+                .append("# HELP dog_api_http_requests_seconds_max Maior duração observada.\n")
+                .append("# TYPE dog_api_http_requests_seconds_max gauge\n");
+
+        for (Snapshot snapshot : snapshots()) {
+            String labels = String.format("method=\"%s\",endpoint=\"%s\",status=\"%s\"",
+                    escape(snapshot.key.method), escape(snapshot.key.endpoint), snapshot.key.statusLabel());
+            for (double quantile : QUANTILES) {
+                text.append(String.format(Locale.ROOT, "dog_api_http_requests_seconds{%s,quantile=\"%s\"} %.9f%n",
+                        labels, quantile, seconds(snapshot.histogram.getValueAtPercentile(quantile * 100))));
+            }
+            text.append(String.format(Locale.ROOT, "dog_api_http_requests_seconds_sum{%s} %.9f%n",
+                    labels, seconds(snapshot.sumNanos)));
+            text.append(String.format(Locale.ROOT, "dog_api_http_requests_seconds_count{%s} %d%n", labels, snapshot.count));
+            max.append(String.format(Locale.ROOT, "dog_api_http_requests_seconds_max{%s} %.9f%n",
+                    labels, seconds(snapshot.histogram.getMaxValue())));
+        }
+        write(file, text.append(max).toString());
+    }
+
+    /**
+     * Exporta as métricas em JSON: uma entrada por série, com contagem, soma, máximo e percentis em ms.
+     *
+     * @param file Arquivo de destino
+     * @throws IOException se o arquivo não puder ser gravado
+     */
+    public synchronized void exportJson(Path file) throws IOException {
+        JSONArray entries = new JSONArray();
+        for (Snapshot snapshot : snapshots()) {
+            JSONObject percentiles = new JSONObject();
+            for (double quantile : QUANTILES) {
+                percentiles.put("p" + String.valueOf(quantile * 100).replaceAll("\\.0$", "").replace(".", "_"),
+                        millis(snapshot.histogram.getValueAtPercentile(quantile * 100)));
+            }
+            entries.put(new JSONObject()
+                    .put("method", snapshot.key.method)
+                    .put("endpoint", snapshot.key.endpoint)
+                    .put("status", snapshot.key.statusLabel())
+                    .put("count", snapshot.count)
+                    .put("sumMillis", millis(snapshot.sumNanos))
+                    .put("maxMillis", millis(snapshot.histogram.getMaxValue()))
+                    .put("percentilesMillis", percentiles));
+        }
+        write(file, new JSONObject().put("series", entries).toString(2));
+    }
+
+    private List<Snapshot> snapshots() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        series.forEach((key, timer) -> snapshots.add(timer.snapshot(key)));
+        snapshots.sort(Comparator.comparing((Snapshot snapshot) -> snapshot.key.endpoint)
+                .thenComparing(snapshot -> snapshot.key.method)
+                .thenComparingInt(snapshot -> snapshot.key.status));
+        return snapshots;
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, content.getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1e9;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e3) / 1e3;
+    }
+
+    private static final class SeriesKey {
+        final String method;
+        final String endpoint;
+        final int status;
+        private final int hash;
+
+        SeriesKey(String method, String endpoint, int status) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.status = status;
+            this.hash = (method.hashCode() * 31 + endpoint.hashCode()) * 31 + status;
+        }
+
+        String statusLabel() {
+            return status == NO_RESPONSE ? "error" : Integer.toString(status);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SeriesKey)) {
+                return false;
+            }
+            SeriesKey key = (SeriesKey) other;
+            return status == key.status && method.equals(key.method) && endpoint.equals(key.endpoint);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Contagem, soma e distribuição de uma série. O Recorder troca de histograma a cada exportação; os
+     * intervalos são somados ao histograma acumulado sob o lock da própria série.
+     */
+    private static final class Timer {
+        final LongAdder count = new LongAdder();
+        final LongAdder sumNanos = new LongAdder();
+        final Recorder recorder = new Recorder(3);
+        private final Histogram accumulated = new Histogram(3);
+        private Histogram interval;
+
+        void record(long nanos) {
+            count.increment();
+            sumNanos.add(nanos);
+            recorder.recordValue(Math.max(1, nanos));
+        }
+
+        synchronized Snapshot snapshot(SeriesKey key) {
+            interval = recorder.getIntervalHistogram(interval);
+            accumulated.add(interval);
+            return new Snapshot(key, count.sum(), sumNanos.sum(), accumulated.copy());
+        }
+    }
+
+    private static final class Snapshot {
+        final SeriesKey key;
+        final long count;
+        final long sumNanos;
+        final Histogram histogram;
+
+        Snapshot(SeriesKey key, long count, long sumNanos, Histogram histogram) {
+            this.key = key;
+            this.count = count;
+            this.sumNanos = sumNanos;
+            this.histogram = histogram;
+        }
+    }
+}
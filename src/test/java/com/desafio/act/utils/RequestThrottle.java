@@ -0,0 +1,471 @@
+package com.desafio.act.utils;
+
+import com.desafio.act.utils.HttpUtils.HttpMethod;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Controle de ritmo das requisições do {@link HttpUtils}, aplicado antes de cada envio real
+ * (respostas servidas pelo cache não passam por aqui):
+ * - limitador de taxa (token bucket) por URL base e regra de endpoint;
+ * - limitador de concorrência adaptativo (AIMD): cresce 1/limite a cada resposta saudável e
+ *   é multiplicado por concurrency.decrease a cada 429, 5xx, falha de conexão ou resposta acima
+ *   de latency.threshold.ms;
+ * - novas tentativas com backoff exponencial e jitter completo para métodos idempotentes,
+ *   respeitando o header Retry-After até retry.after.max.ms (acima disso a resposta é devolvida sem nova
+ *   tentativa); exceções só são repetidas quando causadas por I/O do transporte.
+ *
+ * As configurações ficam em http.throttle.default.*; endpoints listados em http.throttle.endpoints
+ * (chaves do test.properties, ex.: endpoint.base) podem sobrescrevê-las em http.throttle.{chave}.*.
+ */
+public class RequestThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestThrottle.class);
+    private static final String PREFIX = "http.throttle.";
+
+    private final boolean enabled;
+    private final Settings defaults;
+    private final List<Rule> rules;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder throttledResponses = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder connectionFailures = new LongAdder();
+    private final LongAdder rateWaitNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder backoffNanos = new LongAdder();
+    private final LongAdder serverNanos = new LongAdder();
+
+    private RequestThrottle(boolean enabled, Settings defaults, List<Rule> rules) {
+        this.enabled = enabled;
+        this.defaults = defaults;
+        this.rules = rules;
+    }
+
+    /**
+     * @param settings Regra única, aplicada a todas as requisições
+     */
+    RequestThrottle(Settings settings) {
+        this(true, settings, List.of());
+    }
+
+    /**
+     * Cria o controle a partir das propriedades http.throttle.* do test.properties.
+     *
+     * @return Controle configurado (inativo se http.throttle.enabled=false)
+     */
+    public static RequestThrottle fromConfig() {
+        Settings defaults = Settings.fromConfig("default", Settings.BUILT_IN);
+
+        List<Rule> rules = new ArrayList<>();
+        String endpoints = Config.get(PREFIX + "endpoints");
+        if (endpoints != null && !endpoints.isBlank()) {
+            for (String key : endpoints.split(",")) {
+                String endpointKey = key.trim();
+                String path = Config.get(endpointKey);
+                if (path == null) {
+                    throw new IllegalArgumentException("Endpoint de http.throttle.endpoints não encontrado: " + endpointKey);
+                }
+                rules.add(new Rule(normalize(path), Settings.fromConfig(endpointKey, defaults)));
+            }
+        }
+        // Prefixo mais longo primeiro
+        rules.sort(Comparator.comparingInt((Rule rule) -> rule.prefix.length()).reversed());
+
+        return new RequestThrottle(Config.getBoolean(PREFIX + "enabled", true), defaults, rules);
+    }
+
+    /**
+     * Executa o envio respeitando taxa e concorrência e repetindo-o quando a resposta indicar
+     * sobrecarga temporária.
+     *
+     * @param method Método HTTP
+     * @param baseUrl URL base da requisição
+     * @param endpoint Endpoint da requisição
+     * @param send Envio real da requisição
+     * @return Response da última tentativa
+     */
+    public Response execute(HttpMethod method, String baseUrl, String endpoint, Supplier<Response> send) {
+        if (!enabled) {
+            return send.get();
+        }
+
+        Lane lane = lane(baseUrl, endpoint);
+        Settings settings = lane.settings;
+        boolean idempotent = method != HttpMethod.POST;
+
+        for (int attempt = 1; ; attempt++) {
+            requests.increment();
+            rateWaitNanos.add(lane.bucket.acquire());
+            queueWaitNanos.add(lane.limiter.acquire());
+
+            long start = System.nanoTime();
+            Response response = null;
+            boolean congested = false;
+            try {
+                response = send.get();
+                long elapsed = System.nanoTime() - start;
+                int status = response.getStatusCode();
+                if (status == 429) {
+                    throttledResponses.increment();
+                } else if (status >= 500) {
+                    serverErrors.increment();
+                }
+                congested = isOverloaded(status)
+                        || (settings.latencyThresholdNanos > 0 && elapsed > settings.latencyThresholdNanos);
+            } catch (Exception e) {
+                // Só falhas de I/O do transporte indicam sobrecarga; erros de programação ou de
+                // configuração não reduzem a concorrência nem são repetidos
+                if (!isTransportFailure(e)) {
+                    throw e;
+                }
+                congested = true;
+                connectionFailures.increment();
+                if (!idempotent || attempt >= settings.maxAttempts || isAborted(e)) {
+                    throw e;
+                }
+                logger.warn("Falha de conexão na tentativa {} de {} {}, repetindo: {}", attempt, method, endpoint, e.toString());
+            } finally {
+                serverNanos.add(System.nanoTime() - start);
+                // Toda saída devolve a vaga (inclusive Error); sem resposta nem falha de transporte o limite não muda
+                if (congested) {
+                    lane.limiter.release(true);
+                } else if (response != null) {
+                    lane.limiter.release(false);
+                } else {
+                    lane.limiter.release();
+                }
+            }
+
+            if (response == null) {
+                backoff(settings, attempt, 0);
+                continue;
+            }
+            int status = response.getStatusCode();
+            if (!isOverloaded(status) || !idempotent || attempt >= settings.maxAttempts) {
+                return response;
+            }
+            long retryAfterMillis = retryAfterMillis(response.getHeader("Retry-After"));
+            if (retryAfterMillis > settings.retryAfterMaxMillis) {
+                logger.warn("Status {} de {} {} pede nova tentativa em {} ms (acima de retry.after.max.ms); sem nova tentativa",
+                        status, method, endpoint, retryAfterMillis);
+                return response;
+            }
+            logger.debug("Status {} na tentativa {} de {} {}", status, attempt, method, endpoint);
+            backoff(settings, attempt, retryAfterMillis);
+        }
+    }
+
+    /**
+     * @return Resumo de tentativas e do tempo gasto em cada etapa: limitador de taxa, fila de
+     * concorrência, backoff e espera pelo servidor
+     */
+    public String statistics() {
+        if (!enabled) {
+            return "Controle de ritmo: desativado";
+        }
+
+        StringBuilder limits = new StringBuilder();
+        new TreeMap<>(lanes).forEach((key, lane) -> limits.append(limits.length() == 0 ? "" : ", ")
+                .append(key).append('=').append(lane.limiter.currentLimit()));
+        return String.format(Locale.ROOT, "Controle de ritmo: %d envios, %d novas tentativas (429: %d, 5xx: %d, "
+                        + "falhas de conexão: %d); limitador de taxa %d ms, fila de concorrência %d ms, "
+                        + "backoff %d ms, aguardando o servidor %d ms; concorrência atual [%s]",
+                requests.sum(), retries.sum(), throttledResponses.sum(), serverErrors.sum(), connectionFailures.sum(),
+                millis(rateWaitNanos), millis(queueWaitNanos), millis(backoffNanos), millis(serverNanos), limits);
+    }
+
+    /**
+     * @return Limite atual de concorrência da regra que atende o endpoint
+     */
+    int currentLimit(String baseUrl, String endpoint) {
+        return lane(baseUrl, endpoint).limiter.currentLimit();
+    }
+
+    private Lane lane(String baseUrl, String endpoint) {
+        String path = normalize(endpoint);
+        Rule matched = null;
+        for (Rule rule : rules) {
+            // Compara segmentos inteiros: /breed não deve capturar /breeds/list/all
+            if (path.equals(rule.prefix) || path.startsWith(rule.prefix.endsWith("/") ? rule.prefix : rule.prefix + "/")) {
+                matched = rule;
+                break;
+            }
+        }
+
+        Settings settings = matched == null ? defaults : matched.settings;
+        String key = baseUrl + (matched == null ? "" : matched.prefix);
+        return lanes.computeIfAbsent(key, ignored -> new Lane(settings));
+    }
+
+    /**
+     * Espera antes da próxima tentativa: backoff exponencial com jitter completo, limitado a retry.max.ms,
+     * mas nunca menor que o Retry-After pedido pelo servidor.
+     */
+    private void backoff(Settings settings, int attempt, long retryAfterMillis) {
+        long ceiling = Math.min(settings.retryMaxMillis, settings.retryBaseMillis << Math.min(attempt - 1, 20));
+        long delay = Math.max(ThreadLocalRandom.current().nextLong(ceiling + 1), retryAfterMillis);
+
+        retries.increment();
+        long nanos = TimeUnit.MILLISECONDS.toNanos(delay);
+        sleepNanos(nanos);
+        backoffNanos.add(nanos);
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    /**
+     * @return Espera pedida pelo header Retry-After em milissegundos, ou 0 se ausente ou em formato de
+     * data HTTP (mantém o backoff calculado)
+     */
+    private static long retryAfterMillis(String retryAfter) {
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isTransportFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Requisição abortada por timeout assíncrono ({@link HttpTransport#abort(Thread)}): não deve ser repetida.
+     * Timeout de socket também é InterruptedIOException, mas continua elegível a nova tentativa.
+     */
+    private static boolean isAborted(Throwable failure) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String path) {
+        String trimmed = path.trim();
+        return trimmed.startsWith("/") ? trimmed : "/" + trimmed;
+    }
+
+    private static long millis(LongAdder nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos.sum());
+    }
+
+    private static void sleepNanos(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Espera do controle de ritmo interrompida");
+            }
+        }
+    }
+
+    /**
+     * Configuração de uma regra (ou da regra padrão).
+     */
+    static final class Settings {
+
+        static final Settings BUILT_IN = new Settings(0, 1, 16, 1, 64, 0.5, 0, 3, 100, 5000, 60000);
+
+        final double ratePerSecond;
+        final int burst;
+        final int initialConcurrency;
+        final int minConcurrency;
+        final int maxConcurrency;
+        final double decrease;
+        final long latencyThresholdNanos;
+        final int maxAttempts;
+        final long retryBaseMillis;
+        final long retryMaxMillis;
+        final long retryAfterMaxMillis;
+
+        Settings(double ratePerSecond, int burst, int initialConcurrency, int minConcurrency, int maxConcurrency,
+                 double decrease, long latencyThresholdMillis, int maxAttempts, long retryBaseMillis, long retryMaxMillis,
+                 long retryAfterMaxMillis) {
+            if (minConcurrency < 1 || maxConcurrency < minConcurrency) {
+                throw new IllegalArgumentException("Limites de concorrência inválidos: " + minConcurrency + ".." + maxConcurrency);
+            }
+            if (decrease <= 0 || decrease >= 1) {
+                throw new IllegalArgumentException("concurrency.decrease deve estar entre 0 e 1: " + decrease);
+            }
+            this.ratePerSecond = ratePerSecond;
+            this.burst = Math.max(1, burst);
+            this.initialConcurrency = Math.max(minConcurrency, Math.min(maxConcurrency, initialConcurrency));
+            this.minConcurrency = minConcurrency;
+            this.maxConcurrency = maxConcurrency;
+            this.decrease = decrease;
+            this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+            this.maxAttempts = Math.max(1, maxAttempts);
+            this.retryBaseMillis = Math.max(1, retryBaseMillis);
+            this.retryMaxMillis = Math.max(this.retryBaseMillis, retryMaxMillis);
+            this.retryAfterMaxMillis = Math.max(0, retryAfterMaxMillis);
+        }
+
+        static Settings fromConfig(String name, Settings fallback) {
+            String prefix = PREFIX + name + ".";
+            return new Settings(
+                    Config.getDouble(prefix + "rate.per.second", fallback.ratePerSecond),
+                    Config.getInt(prefix + "burst", fallback.burst),
+                    Config.getInt(prefix + "concurrency.initial", fallback.initialConcurrency),
+                    Config.getInt(prefix + "concurrency.min", fallback.minConcurrency),
+                    Config.getInt(prefix + "concurrency.max", fallback.maxConcurrency),
+                    Config.getDouble(prefix + "concurrency.decrease", fallback.decrease),
+                    Config.getInt(prefix + "latency.threshold.ms", (int) TimeUnit.NANOSECONDS.toMillis(fallback.latencyThresholdNanos)),
+                    Config.getInt(prefix + "retry.max.attempts", fallback.maxAttempts),
+                    Config.getInt(prefix + "retry.base.ms", (int) fallback.retryBaseMillis),
+                    Config.getInt(prefix + "retry.max.ms", (int) fallback.retryMaxMillis),
+                    Config.getInt(prefix + "retry.after.max.ms", (int) fallback.retryAfterMaxMillis));
+        }
+    }
+
+    private static final class Rule {
+        final String prefix;
+        final Settings settings;
+
+        Rule(String prefix, Settings settings) {
+            this.prefix = prefix;
+            this.settings = settings;
+        }
+    }
+
+    /**
+     * Estado compartilhado pelas requisições de uma URL base e regra.
+     */
+    private static final class Lane {
+        final Settings settings;
+        final TokenBucket bucket;
+        final ConcurrencyLimiter limiter;
+
+        Lane(Settings settings) {
+            this.settings = settings;
+            this.bucket = new TokenBucket(settings.ratePerSecond, settings.burst);
+            this.limiter = new ConcurrencyLimiter(settings);
+        }
+    }
+
+    /**
+     * Token bucket com reserva: quem encontra o balde vazio reserva o próximo token e espera
+     * fora do lock pelo tempo correspondente. Taxa zero ou negativa desativa o limite.
+     */
+    private static final class TokenBucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        TokenBucket(double ratePerSecond, int burst) {
+            this.tokensPerNano = ratePerSecond / 1e9;
+            this.capacity = burst;
+            this.tokens = burst;
+        }
+
+        /**
+         * @return Tempo de espera em nanossegundos
+         */
+        long acquire() {
+            if (tokensPerNano <= 0) {
+                return 0;
+            }
+
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+                lastRefill = now;
+                tokens -= 1;
+                wait = tokens >= 0 ? 0 : (long) (-tokens / tokensPerNano);
+            }
+            if (wait > 0) {
+                sleepNanos(wait);
+            }
+            return wait;
+        }
+    }
+
+    /**
+     * Limite de requisições em voo com aumento aditivo e redução multiplicativa (AIMD).
+     */
+    private static final class ConcurrencyLimiter {
+        private final Settings settings;
+        private double limit;
+        private int inFlight;
+
+        ConcurrencyLimiter(Settings settings) {
+            this.settings = settings;
+            this.limit = settings.initialConcurrency;
+        }
+
+        /**
+         * @return Tempo de espera por uma vaga em nanossegundos
+         */
+        synchronized long acquire() {
+            long start = System.nanoTime();
+            while (inFlight >= (int) limit) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Espera por vaga de concorrência interrompida", e);
+                }
+            }
+            inFlight++;
+            return System.nanoTime() - start;
+        }
+
+        /**
+         * Libera a vaga sem alterar o limite (tentativa que não diz nada sobre a saúde do servidor).
+         */
+        synchronized void release() {
+            inFlight--;
+            notifyAll();
+        }
+
+        synchronized void release(boolean congested) {
+            inFlight--;
+            limit = congested
+                    ? Math.max(settings.minConcurrency, limit * settings.decrease)
+                    : Math.min(settings.maxConcurrency, limit + 1 / limit);
+            notifyAll();
+        }
+
+        synchronized int currentLimit() {
+            return (int) limit;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.desafio.act.utils;
+
+import com.desafio.act.utils.HttpUtils.HttpMethod;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Novas tentativas, backoff e concorrência adaptativa do {@link RequestThrottle} contra um servidor local
+ * que responde uma sequência roteirizada de status.
+ */
+@DisplayName("Controle de ritmo das requisições")
+public class RequestThrottleTest {
+
+    private static final String ENDPOINT = "/roteiro";
+
+    private HttpServer server;
+    private String baseUrl;
+    private final List<Long> arrivals = new CopyOnWriteArrayList<>();
+    private volatile List<Reply> script = List.of();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(ENDPOINT, exchange -> {
+            int index = arrivals.size();
+            arrivals.add(System.nanoTime());
+            Reply reply = script.get(Math.min(index, script.size() - 1));
+            if (reply.retryAfterSeconds != null) {
+                exchange.getResponseHeaders().set("Retry-After", reply.retryAfterSeconds);
+            }
+            byte[] body = "{}".getBytes();
+            exchange.sendResponseHeaders(reply.status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Repete 503 e 429, respeita o Retry-After e reduz a concorrência")
+    public void deveRepetirComBackoffEReduzirConcorrencia() {
+        script = List.of(new Reply(503, null), new Reply(429, "1"), new Reply(200, null));
+        RequestThrottle throttle = new RequestThrottle(settings(8, 2000));
+
+        Response response = throttle.execute(HttpMethod.GET, baseUrl, ENDPOINT, this::send);
+
+        Assertions.verifyEquality(200, response.getStatusCode(), "A última tentativa deve ser a resposta devolvida");
+        Assertions.verifyEquality(3, arrivals.size(), "503 e 429 devem ser repetidos até o 200");
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(arrivals.get(2) - arrivals.get(1));
+        Assertions.verifyTrue(waitMillis >= 1000,
+                "A tentativa após o 429 deve esperar o Retry-After de 1 s, esperou " + waitMillis + " ms");
+        // 8 -> 4 (503) -> 2 (429) -> 2,5 (200)
+        Assertions.verifyEquality(2, throttle.currentLimit(baseUrl, ENDPOINT),
+                "Cada resposta de sobrecarga deve reduzir o limite pela metade");
+    }
+
+    @Test
+    @DisplayName("Não repete quando o Retry-After excede retry.after.max.ms")
+    public void naoDeveRepetirAntesDoRetryAfter() {
+        script = List.of(new Reply(429, "30"), new Reply(200, null));
+        RequestThrottle throttle = new RequestThrottle(settings(8, 1000));
+
+        Response response = throttle.execute(HttpMethod.GET, baseUrl, ENDPOINT, this::send);
+
+        Assertions.verifyEquality(429, response.getStatusCode(), "O 429 deve ser devolvido sem nova tentativa");
+        Assertions.verifyEquality(1, arrivals.size(), "O servidor não deve receber uma tentativa antecipada");
+    }
+
+    @Test
+    @DisplayName("Não repete POST")
+    public void naoDeveRepetirPost() {
+        script = List.of(new Reply(503, null), new Reply(200, null));
+        RequestThrottle throttle = new RequestThrottle(settings(8, 1000));
+
+        Response response = throttle.execute(HttpMethod.POST, baseUrl, ENDPOINT, this::send);
+
+        Assertions.verifyEquality(503, response.getStatusCode(), "POST não é idempotente");
+        Assertions.verifyEquality(1, arrivals.size(), "POST deve ser enviado uma única vez");
+    }
+
+    @Test
+    @DisplayName("Devolve a vaga de concorrência quando o envio lança um Error")
+    public void deveLiberarVagaAposError() {
+        script = List.of(new Reply(200, null));
+        RequestThrottle throttle = new RequestThrottle(settings(1, 1000));
+
+        assertThrows(AssertionError.class, () -> throttle.execute(HttpMethod.GET, baseUrl, ENDPOINT, () -> {
+            throw new AssertionError("falha no envio");
+        }));
+
+        // Com uma única vaga, a requisição seguinte só passa se a anterior a devolveu
+        Response response = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> throttle.execute(HttpMethod.GET, baseUrl, ENDPOINT, this::send));
+        Assertions.verifyEquality(200, response.getStatusCode(), "A requisição seguinte deve ser enviada");
+    }
+
+    private Response send() {
+        return RestAssured.get(baseUrl + ENDPOINT);
+    }
+
+    private static RequestThrottle.Settings settings(int maxConcurrency, long retryAfterMaxMillis) {
+        return new RequestThrottle.Settings(0, 1, maxConcurrency, 1, maxConcurrency, 0.5, 0, 3, 10, 50, retryAfterMaxMillis);
+    }
+
+    private static final class Reply {
+        final int status;
+        final String retryAfterSeconds;
+
+        Reply(int status, String retryAfterSeconds) {
+            this.status = status;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+}
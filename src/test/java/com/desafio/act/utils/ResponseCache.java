@@ -0,0 +1,157 @@
+package com.desafio.act.utils;
+
+import io.restassured.response.Response;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache de respostas de requisições idempotentes com escopo de execução.
+ * Entradas expiram por TTL e o tamanho é limitado descartando as mais antigas.
+ * Requisições simultâneas para a mesma chave são agrupadas (single-flight):
+ * apenas a primeira vai ao servidor e as demais aguardam o mesmo resultado.
+ */
+public class ResponseCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param ttlSeconds Tempo de vida de cada entrada, em segundos
+     * @param maxEntries Quantidade máxima de entradas mantidas
+     */
+    public ResponseCache(long ttlSeconds, int maxEntries) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Retorna a resposta em cache para a chave ou executa o loader uma única vez.
+     *
+     * @param key    Chave da requisição (método, endpoint e headers)
+     * @param loader Execução real da requisição
+     * @return Response em cache ou recém obtida
+     */
+    public Response get(String key, Supplier<Response> loader) {
+        while (true) {
+            CompletableFuture<Entry> existing = entries.get(key);
+
+            if (existing != null) {
+                if (!existing.isDone()) {
+                    coalesced.increment();
+                    return await(existing).response;
+                }
+
+                Entry entry = existing.isCompletedExceptionally() ? null : existing.join();
+                if (entry != null && !entry.isExpired(ttlNanos)) {
+                    hits.increment();
+                    return entry.response;
+                }
+
+                entries.remove(key, existing);
+                continue;
+            }
+
+            CompletableFuture<Entry> created = new CompletableFuture<>();
+            if (entries.putIfAbsent(key, created) != null) {
+                continue;
+            }
+
+            misses.increment();
+            Response response;
+            try {
+                response = loader.get();
+            } catch (RuntimeException | Error e) {
+                entries.remove(key, created);
+                created.completeExceptionally(e);
+                throw e;
+            }
+
+            if (response.getStatusCode() >= 500) {
+                // Erros de servidor não são reaproveitados por outras requisições
+                entries.remove(key, created);
+            }
+            created.complete(new Entry(response));
+            evictIfNeeded();
+            return response;
+        }
+    }
+
+    /**
+     * Remove todas as entradas do cache.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return Resumo com acertos, falhas, requisições agrupadas e descartes
+     */
+    public String statistics() {
+        long total = hits.sum() + misses.sum() + coalesced.sum();
+        double hitRatio = total == 0 ? 0 : (hits.sum() + coalesced.sum()) * 100.0 / total;
+        return String.format("Cache de respostas: %d acertos, %d falhas, %d agrupadas, %d descartes (%.1f%% reaproveitadas)",
+                hits.sum(), misses.sum(), coalesced.sum(), evictions.sum(), hitRatio);
+    }
+
+    private void evictIfNeeded() {
+        while (entries.size() > maxEntries) {
+            String oldestKey = null;
+            CompletableFuture<Entry> oldestFuture = null;
+            long oldestTime = Long.MAX_VALUE;
+
+            for (Map.Entry<String, CompletableFuture<Entry>> candidate : entries.entrySet()) {
+                CompletableFuture<Entry> future = candidate.getValue();
+                if (future.isDone() && !future.isCompletedExceptionally() && future.join().loadedAt < oldestTime) {
+                    oldestTime = future.join().loadedAt;
+                    oldestKey = candidate.getKey();
+                    oldestFuture = future;
+                }
+            }
+
+            if (oldestKey == null) {
+                return;
+            }
+            // Remoção condicional: se outra thread já substituiu a entrada, a nova não é descartada
+            // e a próxima volta do laço procura outra candidata
+            if (entries.remove(oldestKey, oldestFuture)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final Response response;
+        private final long loadedAt = System.nanoTime();
+
+        private Entry(Response response) {
+            this.response = response;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt > ttlNanos;
+        }
+    }
+}
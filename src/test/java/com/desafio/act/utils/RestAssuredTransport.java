@@ -0,0 +1,259 @@
+package com.desafio.act.utils;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.ExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transporte padrão: o RestAssured reutiliza um único Apache HttpClient apoiado por um pool de
+ * conexões persistentes (keep-alive), com limite por rota e remoção periódica de conexões ociosas.
+ * Sem isso, o RestAssured cria um cliente novo a cada requisição e cada chamada paga conexão
+ * TCP e handshake TLS.
+ *
+ * O RestAssured 5 ainda exige a API legada (AbstractHttpClient) do HttpClient 4.
+ *
+ * A cada requisição, o RestAssured instala no cliente os interceptadores de gzip/deflate e só depois os
+ * troca pelos decodificadores configurados (nenhum, aqui). Com o cliente compartilhado, uma requisição
+ * concorrente podia receber o body já descomprimido com o Content-Encoding original; por isso o cliente
+ * recusa esses interceptadores e a descompressão fica só com o {@link ContentEncodingFilter}.
+ */
+@SuppressWarnings("deprecation")
+public class RestAssuredTransport implements HttpTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestAssuredTransport.class);
+    private static final String CONTENT_ENCODING_INTERCEPTORS = "io.restassured.internal.http.ContentEncoding$";
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+    private final ScheduledExecutorService evictor;
+    private final LongAdder requests = new LongAdder();
+    private final CountingSocketFactory plainSockets;
+    private final CountingSocketFactory tlsSockets;
+    private final Map<Thread, HttpConnection> inFlight = new ConcurrentHashMap<>();
+    private final Set<Thread> aborted = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param maxTotal            Conexões simultâneas no pool
+     * @param maxPerRoute         Conexões simultâneas por rota (host e porta)
+     * @param idleTimeoutSeconds  Tempo ocioso após o qual a conexão é fechada
+     * @param keepAliveSeconds    Tempo de keep-alive quando o servidor não informa um
+     * @param connectTimeoutMs    Tempo máximo para abrir a conexão
+     * @param requestTimeoutMs    Tempo máximo sem receber dados do servidor (timeout de leitura do socket)
+     */
+    public RestAssuredTransport(int maxTotal, int maxPerRoute, int idleTimeoutSeconds,
+                                int keepAliveSeconds, int connectTimeoutMs, int requestTimeoutMs) {
+        this.plainSockets = new CountingSocketFactory(PlainSocketFactory.getSocketFactory());
+        this.tlsSockets = new CountingLayeredSocketFactory(SSLSocketFactory.getSocketFactory());
+
+        SchemeRegistry schemes = new SchemeRegistry();
+        schemes.register(new Scheme("http", 80, plainSockets));
+        schemes.register(new Scheme("https", 443, tlsSockets));
+
+        this.connectionManager = new PoolingClientConnectionManager(schemes) {
+            @Override
+            public void releaseConnection(ManagedClientConnection connection, long keepAlive, TimeUnit unit) {
+                // Conexão devolvida ao pool não pode mais ser encerrada por um abort
+                inFlight.values().remove(connection);
+                super.releaseConnection(connection, keepAlive, unit);
+            }
+        };
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        this.httpClient = new DefaultHttpClient(connectionManager) {
+            @Override
+            public synchronized void addRequestInterceptor(HttpRequestInterceptor interceptor) {
+                if (!isContentDecoder(interceptor)) {
+                    super.addRequestInterceptor(interceptor);
+                }
+            }
+
+            @Override
+            public synchronized void addResponseInterceptor(HttpResponseInterceptor interceptor) {
+                if (!isContentDecoder(interceptor)) {
+                    super.addResponseInterceptor(interceptor);
+                }
+            }
+        };
+        HttpConnectionParams.setConnectionTimeout(httpClient.getParams(), connectTimeoutMs);
+        // No Apache HttpClient o limite vale para cada leitura, não para a troca inteira como no java.net.http
+        HttpConnectionParams.setSoTimeout(httpClient.getParams(), requestTimeoutMs);
+        HttpConnectionParams.setTcpNoDelay(httpClient.getParams(), true);
+        DefaultConnectionKeepAliveStrategy serverKeepAlive = new DefaultConnectionKeepAliveStrategy();
+        long defaultKeepAliveMs = TimeUnit.SECONDS.toMillis(keepAliveSeconds);
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            long keepAlive = serverKeepAlive.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? Math.min(keepAlive, defaultKeepAliveMs) : defaultKeepAliveMs;
+        });
+        httpClient.addRequestInterceptor((request, context) -> {
+            requests.increment();
+            // A leitura do socket não responde a interrupção; guardar a conexão permite abortá-la no timeout.
+            // A conexão é registrada antes da verificação para não perder um abort concorrente
+            Object connection = context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+            if (connection instanceof HttpConnection) {
+                inFlight.put(Thread.currentThread(), (HttpConnection) connection);
+            }
+            if (aborted.contains(Thread.currentThread())) {
+                throw new InterruptedIOException("Requisição abortada antes do envio: " + request.getRequestLine());
+            }
+        });
+        // Uma requisição abortada não deve ser reenviada pelo próprio cliente
+        DefaultHttpRequestRetryHandler retryHandler = new DefaultHttpRequestRetryHandler();
+        httpClient.setHttpRequestRetryHandler((exception, executionCount, context) ->
+                !aborted.contains(Thread.currentThread()) && retryHandler.retryRequest(exception, executionCount, context));
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, idleTimeoutSeconds / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS);
+        }, period, period, TimeUnit.SECONDS);
+
+        logger.debug("Pool HTTP criado: {} conexões no total, {} por rota", maxTotal, maxPerRoute);
+    }
+
+    private static boolean isContentDecoder(Object interceptor) {
+        return interceptor.getClass().getName().startsWith(CONTENT_ENCODING_INTERCEPTORS);
+    }
+
+    @Override
+    public String name() {
+        return "restassured";
+    }
+
+    @Override
+    public void configure(RequestSpecBuilder template) {
+        // A descompressão fica com o ContentEncodingFilter, que precisa ver o body como veio da rede
+        template.setConfig(RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(() -> httpClient)
+                        .reuseHttpClientInstance())
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()));
+    }
+
+    @Override
+    public String statistics() {
+        PoolStats pool = connectionManager.getTotalStats();
+        return String.format("Transporte restassured: %d requisições; pool %d em uso, %d ociosas, %d aguardando "
+                        + "(máx. %d); %d conexões criadas, %d handshakes TLS",
+                requests.sum(), pool.getLeased(), pool.getAvailable(), pool.getPending(), pool.getMax(),
+                plainSockets.connections.sum() + tlsSockets.connections.sum(), tlsSockets.connections.sum());
+    }
+
+    @Override
+    public void abort(Thread worker) {
+        // A marca sobrevive a quem descartar a interrupção no caminho (o RestAssured faz isso na inicialização)
+        aborted.add(worker);
+        worker.interrupt();
+        HttpConnection connection = inFlight.remove(worker);
+        if (connection != null) {
+            try {
+                connection.shutdown();
+            } catch (IOException e) {
+                logger.debug("Falha ao encerrar a conexão abortada: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void finished() {
+        aborted.remove(Thread.currentThread());
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+
+    /**
+     * Fábrica de sockets que conta as conexões abertas.
+     */
+    private static class CountingSocketFactory implements SchemeSocketFactory {
+
+        final LongAdder connections = new LongAdder();
+        private final SchemeSocketFactory delegate;
+
+        CountingSocketFactory(SchemeSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpParams params) throws IOException {
+            return delegate.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, UnknownHostException, ConnectTimeoutException {
+            Socket connected = delegate.connectSocket(socket, remoteAddress, localAddress, params);
+            connections.increment();
+            return connected;
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return delegate.isSecure(socket);
+        }
+    }
+
+    /**
+     * Variante para https: cada conexão aberta corresponde a um handshake TLS. Precisa continuar
+     * "em camadas" para que o HttpClient trate a rota como segura.
+     */
+    private static final class CountingLayeredSocketFactory extends CountingSocketFactory
+            implements SchemeLayeredSocketFactory {
+
+        private final SchemeLayeredSocketFactory delegate;
+
+        CountingLayeredSocketFactory(SchemeLayeredSocketFactory delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params)
+                throws IOException, UnknownHostException {
+            return delegate.createLayeredSocket(socket, target, port, params);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.desafio.act.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import io.restassured.module.jsv.JsonSchemaValidatorSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro thread-safe de JSON schemas compilados.
+ * Cada arquivo de resources/response/ é lido e compilado uma única vez por JVM;
+ * as validações seguintes reutilizam o mesmo {@link JsonSchema}.
+ *
+ * O validador do fge só monta as cadeias de validação de cada subschema na primeira validação que passa
+ * por ele. Por isso a compilação valida um documento de exemplo gerado a partir do próprio schema, e esse
+ * tempo conta como compilação, não como validação.
+ */
+public class SchemaRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaRegistry.class);
+    private static final String SCHEMA_DIRECTORY = "response/";
+    private static final JsonSchemaValidatorSettings SETTINGS = JsonSchemaValidator.settings != null
+            ? JsonSchemaValidator.settings
+            : JsonSchemaValidatorSettings.settings();
+
+    private static final ConcurrentHashMap<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private static final LongAdder compilations = new LongAdder();
+    private static final LongAdder compileNanos = new LongAdder();
+    private static final LongAdder validations = new LongAdder();
+    private static final LongAdder validateNanos = new LongAdder();
+
+    /**
+     * Obtém o schema compilado, compilando-o na primeira chamada.
+     *
+     * @param fileName Nome do arquivo JSON schema em resources/response/
+     * @return Schema compilado, reutilizável entre threads
+     */
+    public static JsonSchema getSchema(String fileName) {
+        return schemas.computeIfAbsent(fileName, SchemaRegistry::compile);
+    }
+
+    /**
+     * Valida um documento JSON contra o schema informado.
+     *
+     * @param fileName Nome do arquivo JSON schema em resources/response/
+     * @param json     Documento JSON a ser validado
+     * @return Relatório da validação
+     * @throws IOException         Se o documento não for um JSON válido
+     * @throws ProcessingException Se houver erro durante a validação
+     */
+    public static ProcessingReport validate(String fileName, String json) throws IOException, ProcessingException {
+        JsonSchema schema = getSchema(fileName);
+
+        long start = System.nanoTime();
+        try {
+            JsonNode document = JsonLoader.fromString(json);
+            return SETTINGS.shouldUseCheckedValidation()
+                    ? schema.validate(document)
+                    : schema.validateUnchecked(document);
+        } finally {
+            validateNanos.add(System.nanoTime() - start);
+            validations.increment();
+        }
+    }
+
+    /**
+     * Compila antecipadamente todos os schemas encontrados em resources/response/.
+     * Útil no início da suite para retirar a compilação do tempo dos testes.
+     */
+    public static void preloadAll() {
+        URL directory = SchemaRegistry.class.getClassLoader().getResource(SCHEMA_DIRECTORY);
+        if (directory == null || !"file".equals(directory.getProtocol())) {
+            logger.debug("Diretório de schemas não acessível para pré-carga: {}", directory);
+            return;
+        }
+
+        File[] files;
+        try {
+            files = new File(directory.toURI()).listFiles((dir, name) -> name.endsWith(".json"));
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("URI inválida para o diretório de schemas: " + directory, e);
+        }
+
+        if (files != null) {
+            for (File file : files) {
+                getSchema(file.getName());
+            }
+        }
+        logger.info("{} schemas pré-carregados", schemas.size());
+    }
+
+    /**
+     * @return Resumo com o tempo gasto compilando e validando schemas
+     */
+    public static String statistics() {
+        return String.format("Schemas: %d compilados em %d ms; %d validações em %d ms",
+                compilations.sum(), TimeUnit.NANOSECONDS.toMillis(compileNanos.sum()),
+                validations.sum(), TimeUnit.NANOSECONDS.toMillis(validateNanos.sum()));
+    }
+
+    private static JsonSchema compile(String fileName) {
+        String resourcePath = SCHEMA_DIRECTORY + fileName;
+        long start = System.nanoTime();
+
+        try (InputStream inputStream = SchemaRegistry.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                throw new IOException("Arquivo de schema não encontrado: " + resourcePath);
+            }
+
+            JsonNode schemaNode = JsonLoader.fromString(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            JsonSchema schema = SETTINGS.jsonSchemaFactory().getJsonSchema(schemaNode);
+            schema.validate(sampleInstance(schemaNode));
+
+            logger.debug("Schema compilado: {}", resourcePath);
+            return schema;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Schema inválido: " + resourcePath, e);
+        } finally {
+            compileNanos.add(System.nanoTime() - start);
+            compilations.increment();
+        }
+    }
+
+    /**
+     * Gera um documento que percorre todos os subschemas: cada propriedade declarada, um membro para
+     * additionalProperties, um elemento para items e o primeiro valor de enum. O validador só desce aos
+     * filhos de um nó válido, então o documento precisa satisfazer os tipos e os campos obrigatórios.
+     */
+    private static JsonNode sampleInstance(JsonNode schema) {
+        JsonNodeFactory nodes = JsonNodeFactory.instance;
+        if (schema.has("enum") && schema.get("enum").size() > 0) {
+            return schema.get("enum").get(0);
+        }
+
+        switch (schema.path("type").asText("")) {
+            case "object":
+                ObjectNode object = nodes.objectNode();
+                schema.path("properties").fields().forEachRemaining(property ->
+                        object.set(property.getKey(), sampleInstance(property.getValue())));
+                if (schema.path("additionalProperties").isObject()) {
+                    object.set("_amostra", sampleInstance(schema.get("additionalProperties")));
+                }
+                return object;
+            case "array":
+                ArrayNode array = nodes.arrayNode();
+                if (schema.path("items").isObject()) {
+                    array.add(sampleInstance(schema.get("items")));
+                }
+                return array;
+            case "string":
+                return nodes.textNode("");
+            case "integer":
+            case "number":
+                return nodes.numberNode(0);
+            case "boolean":
+                return nodes.booleanNode(false);
+            default:
+                return nodes.nullNode();
+        }
+    }
+}
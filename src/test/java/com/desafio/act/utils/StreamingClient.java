@@ -0,0 +1,503 @@
+package com.desafio.act.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Respostas consumidas em streaming, sem passar pelo RestAssured (que guarda o corpo inteiro em memória):
+ * - {@link #streamArray}: itera os elementos de uma lista JSON (ex.: message) à medida que chegam;
+ * - {@link #download}: grava o corpo direto em um FileChannel, ou só conta os bytes (destino nulo),
+ *   sem cópias intermediárias em byte[].
+ *
+ * Corpos acima do limite são abortados cedo: pelo Content-Length declarado, antes de ler o corpo, ou
+ * assim que os bytes recebidos cruzam o limite. A conexão é cancelada e a chamada falha com IOException.
+ *
+ * O timeout da requisição (http.request.timeout.ms) vale só até a chegada dos cabeçalhos: a leitura do
+ * corpo é limitada em tamanho, não em tempo. Quem precisar de um prazo para o corpo inteiro deve aplicá-lo
+ * por fora (ex.: {@link HttpUtils#supplyAsync}, que aborta a tarefa após http.async.timeout.ms).
+ */
+public class StreamingClient {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final long maxBodyBytes;
+    private final LongAdder streams = new LongAdder();
+    private final LongAdder streamedElements = new LongAdder();
+    private final LongAdder downloads = new LongAdder();
+    private final LongAdder downloadedBytes = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+
+    /**
+     * @param connectTimeout Tempo máximo para abrir a conexão
+     * @param requestTimeout Tempo máximo até os cabeçalhos da resposta (não limita a leitura do corpo)
+     * @param maxBodyBytes   Tamanho máximo padrão do corpo
+     */
+    public StreamingClient(Duration connectTimeout, Duration requestTimeout, long maxBodyBytes) {
+        if (maxBodyBytes < 1) {
+            throw new IllegalArgumentException("Limite do corpo deve ser positivo: " + maxBodyBytes);
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = requestTimeout;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Cria o cliente a partir de http.connect.timeout.ms, http.request.timeout.ms e
+     * http.stream.max.body.bytes do test.properties.
+     *
+     * @return Cliente configurado
+     */
+    public static StreamingClient fromConfig() {
+        return new StreamingClient(
+                Duration.ofMillis(Config.getInt("http.connect.timeout.ms", 10000)),
+                Duration.ofMillis(Config.getInt("http.request.timeout.ms", 30000)),
+                Long.parseLong(Config.get("http.stream.max.body.bytes").trim()));
+    }
+
+    /**
+     * @return Limite padrão do corpo, em bytes
+     */
+    public long getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * Abre a resposta de um GET e posiciona a leitura na lista JSON do campo informado.
+     * O chamador deve fechar o stream; fechar antes do fim encerra a conexão sem ler o restante.
+     * A leitura dos elementos não tem prazo (ver a descrição da classe).
+     *
+     * @param uri          URL completa
+     * @param field        Campo de primeiro nível que contém a lista (ex.: message)
+     * @param maxBodyBytes Tamanho máximo do corpo
+     * @return Iterador sobre os elementos da lista
+     * @throws IOException Se a requisição falhar, o status não for 2xx ou o corpo declarado exceder o limite
+     */
+    public JsonArrayStream streamArray(URI uri, String field, long maxBodyBytes) throws IOException {
+        HttpResponse<InputStream> response = send(uri, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() / 100 != 2) {
+            // O corpo de erro não é a lista esperada: a conexão é encerrada sem lê-lo
+            response.body().close();
+            throw new StatusException(response.statusCode(), "Status " + response.statusCode()
+                    + " ao abrir a lista " + field + " de " + uri);
+        }
+        long declared = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        if (declared > maxBodyBytes) {
+            response.body().close();
+            aborted.increment();
+            throw tooLarge(uri, declared, maxBodyBytes);
+        }
+
+        streams.increment();
+        return new JsonArrayStream(response.statusCode(),
+                new CappedInputStream(response.body(), uri, maxBodyBytes), field);
+    }
+
+    /**
+     * @see #streamArray(URI, String, long)
+     */
+    public JsonArrayStream streamArray(URI uri, String field) throws IOException {
+        return streamArray(uri, field, maxBodyBytes);
+    }
+
+    /**
+     * Baixa o corpo de um GET direto para um arquivo, ou o descarta contando os bytes.
+     * Em caso de falha o arquivo parcial é removido.
+     *
+     * @param uri          URL completa
+     * @param target       Arquivo de destino, ou null para descartar o corpo
+     * @param maxBodyBytes Tamanho máximo do corpo
+     * @return Resultado do download
+     * @throws IOException Se a requisição ou a escrita falharem, ou o corpo exceder o limite
+     */
+    public Download download(URI uri, Path target, long maxBodyBytes) throws IOException {
+        FileChannel channel = target == null ? null : FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        long start = System.nanoTime();
+        ChannelSubscriber[] subscriber = new ChannelSubscriber[1];
+
+        try (channel) {
+            HttpResponse<Long> response = send(uri, info -> {
+                long declared = info.headers().firstValueAsLong("Content-Length").orElse(-1);
+                subscriber[0] = new ChannelSubscriber(channel, uri, declared, maxBodyBytes);
+                return subscriber[0];
+            });
+
+            downloads.increment();
+            downloadedBytes.add(response.body());
+            return new Download(response.statusCode(),
+                    response.headers().firstValue("Content-Type").orElse(""),
+                    response.body(),
+                    subscriber[0].firstByteNanos == 0 ? -1 : subscriber[0].firstByteNanos - start,
+                    System.nanoTime() - start);
+        } catch (IOException | RuntimeException e) {
+            if (subscriber[0] != null && subscriber[0].exceeded) {
+                aborted.increment();
+            }
+            if (target != null) {
+                Files.deleteIfExists(target);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @see #download(URI, Path, long)
+     */
+    public Download download(URI uri, Path target) throws IOException {
+        return download(uri, target, maxBodyBytes);
+    }
+
+    /**
+     * @return Resumo de streams, elementos, downloads e respostas abortadas pelo limite
+     */
+    public String statistics() {
+        return String.format("Streaming: %d listas com %d elementos, %d downloads com %d KiB, "
+                        + "%d respostas abortadas pelo limite de %d KiB",
+                streams.sum(), streamedElements.sum(), downloads.sum(), downloadedBytes.sum() / 1024,
+                aborted.sum(), maxBodyBytes / 1024);
+    }
+
+    private <T> HttpResponse<T> send(URI uri, HttpResponse.BodyHandler<T> handler) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+        try {
+            return client.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Requisição interrompida: " + uri, e);
+        }
+    }
+
+    private static IOException tooLarge(URI uri, long bytes, long maxBodyBytes) {
+        return new IOException(String.format("Corpo de %s excede o limite de %d bytes (%s)",
+                uri, maxBodyBytes, bytes < 0 ? "tamanho não declarado" : bytes + " bytes"));
+    }
+
+    /**
+     * Resposta com status fora da faixa 2xx onde só um corpo de sucesso pode ser lido.
+     */
+    public static final class StatusException extends IOException {
+
+        private final int statusCode;
+
+        StatusException(int statusCode, String message) {
+            super(message);
+            this.statusCode = statusCode;
+        }
+
+        /**
+         * @return Status HTTP da resposta
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+    }
+
+    /**
+     * Resultado de um download: status, tipo, bytes recebidos e tempos.
+     */
+    public static final class Download {
+
+        private final int statusCode;
+        private final String contentType;
+        private final long bytes;
+        private final long timeToFirstByteNanos;
+        private final long totalNanos;
+
+        Download(int statusCode, String contentType, long bytes, long timeToFirstByteNanos, long totalNanos) {
+            this.statusCode = statusCode;
+            this.contentType = contentType;
+            this.bytes = bytes;
+            this.timeToFirstByteNanos = timeToFirstByteNanos;
+            this.totalNanos = totalNanos;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return Nanossegundos do envio até o primeiro byte do corpo, ou -1 se o corpo veio vazio
+         */
+        public long getTimeToFirstByteNanos() {
+            return timeToFirstByteNanos;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+    }
+
+    /**
+     * Elementos de uma lista JSON lidos sob demanda. Elementos escalares são devolvidos como texto;
+     * objetos e listas aninhados não são suportados.
+     */
+    public final class JsonArrayStream implements Iterator<String>, Closeable {
+
+        private final int statusCode;
+        private final InputStream body;
+        private final String field;
+        private JsonParser parser;
+        private boolean finished;
+        private String next;
+
+        private JsonArrayStream(int statusCode, InputStream body, String field) {
+            this.statusCode = statusCode;
+            this.body = body;
+            this.field = field;
+        }
+
+        /**
+         * @return Status HTTP da resposta
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    next = advance();
+                } catch (IOException e) {
+                    finished = true;
+                    throw new UncheckedIOException("Falha ao ler a lista " + field + " em streaming", e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String element = next;
+            next = null;
+            streamedElements.increment();
+            return element;
+        }
+
+        @Override
+        public void close() throws IOException {
+            finished = true;
+            if (parser != null) {
+                parser.close();
+            }
+            body.close();
+        }
+
+        private String advance() throws IOException {
+            if (parser == null) {
+                parser = JSON_FACTORY.createParser(body);
+                if (!seekArray()) {
+                    finished = true;
+                    return null;
+                }
+            }
+
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                finished = true;
+                return null;
+            }
+            if (!token.isScalarValue()) {
+                throw new IllegalStateException("A lista " + field + " contém elementos não escalares");
+            }
+            return parser.getValueAsString();
+        }
+
+        /**
+         * Avança até o início da lista do campo, pulando os demais campos de primeiro nível.
+         *
+         * @return false se o campo não existir
+         */
+        private boolean seekArray() throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("A resposta não é um objeto JSON");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (name.equals(field)) {
+                    if (value != JsonToken.START_ARRAY) {
+                        throw new IllegalStateException("O campo " + field + " não é uma lista: " + value);
+                    }
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Conta os bytes lidos e falha assim que o limite é ultrapassado.
+     */
+    private final class CappedInputStream extends FilterInputStream {
+
+        private final URI uri;
+        private final long maxBodyBytes;
+        private long read;
+
+        CappedInputStream(InputStream in, URI uri, long maxBodyBytes) {
+            super(in);
+            this.uri = uri;
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            read += n;
+            if (read > maxBodyBytes) {
+                aborted.increment();
+                in.close();
+                throw tooLarge(uri, -1, maxBodyBytes);
+            }
+        }
+    }
+
+    /**
+     * Grava cada lote de buffers recebidos no canal com uma escrita agrupada (gathering write), pedindo
+     * o próximo lote só depois de gravar o anterior; sem canal, apenas conta os bytes.
+     */
+    private static final class ChannelSubscriber implements HttpResponse.BodySubscriber<Long> {
+
+        private final FileChannel channel;
+        private final URI uri;
+        private final long declaredLength;
+        private final long maxBodyBytes;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private long received;
+        private volatile long firstByteNanos;
+        private volatile boolean exceeded;
+
+        ChannelSubscriber(FileChannel channel, URI uri, long declaredLength, long maxBodyBytes) {
+            this.channel = channel;
+            this.uri = uri;
+            this.declaredLength = declaredLength;
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public CompletionStage<Long> getBody() {
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (declaredLength > maxBodyBytes) {
+                exceeded = true;
+                subscription.cancel();
+                result.completeExceptionally(tooLarge(uri, declaredLength, maxBodyBytes));
+                return;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            if (result.isDone()) {
+                return;
+            }
+            if (firstByteNanos == 0) {
+                firstByteNanos = System.nanoTime();
+            }
+
+            long remaining = 0;
+            for (ByteBuffer buffer : buffers) {
+                remaining += buffer.remaining();
+            }
+            received += remaining;
+            if (received > maxBodyBytes) {
+                exceeded = true;
+                subscription.cancel();
+                result.completeExceptionally(tooLarge(uri, -1, maxBodyBytes));
+                return;
+            }
+
+            if (channel != null) {
+                try {
+                    ByteBuffer[] batch = buffers.toArray(new ByteBuffer[0]);
+                    while (remaining > 0) {
+                        remaining -= channel.write(batch);
+                    }
+                } catch (IOException e) {
+                    subscription.cancel();
+                    result.completeExceptionally(e);
+                    return;
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(received);
+        }
+    }
+}
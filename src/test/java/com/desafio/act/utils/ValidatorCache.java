@@ -0,0 +1,237 @@
+package com.desafio.act.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Cache de validadores HTTP (ETag / Last-Modified) por URL. Respostas 200 de GET que trazem validadores
+ * são guardadas; as requisições seguintes à mesma URL levam If-None-Match / If-Modified-Since e, quando o
+ * servidor responde 304, o filtro devolve o body guardado com status 200, de forma transparente para o teste.
+ * Respostas revalidadas recebem o header {@value #REVALIDATED_HEADER}, consultado por
+ * {@link HttpUtils#wasRevalidated(Response)}. Requisições marcadas com {@value #BYPASS_HEADER} (envios sem
+ * cache do HttpUtils) ignoram o filtro e sempre recebem a resposta completa do servidor.
+ *
+ * Registrado antes do {@link ContentEncodingFilter} (guarda o body já descomprimido); o {@link Cassette}
+ * grava e reproduz a resposta já resolvida.
+ */
+public class ValidatorCache implements OrderedFilter {
+
+    /**
+     * Header adicionado às respostas servidas do cache após um 304.
+     */
+    public static final String REVALIDATED_HEADER = "X-Validator-Cache";
+
+    /**
+     * Marca de requisição que não deve ser revalidada; removida pelo filtro antes do envio.
+     */
+    public static final String BYPASS_HEADER = "X-Validator-Cache-Bypass";
+
+    private static final Set<String> REPRESENTATION_HEADERS =
+            Set.of("content-length", "content-type", "content-encoding", "transfer-encoding");
+
+    private static final int MAX_VARIANTS = 4;
+
+    // Variantes por URL (ex.: uma por Content-Encoding negociado), da mais recente para a mais antiga
+    private final Map<String, List<Entry>> entries;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxEntries Quantidade máxima de URLs guardadas (as menos usadas recentemente são descartadas)
+     */
+    public ValidatorCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<Entry>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param response Response retornada pelo HttpUtils
+     * @return true se a resposta foi servida do cache após uma revalidação 304
+     */
+    public static boolean wasRevalidated(Response response) {
+        return response.getHeaders().hasHeaderWithName(REVALIDATED_HEADER);
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (requestSpec.getHeaders().hasHeaderWithName(BYPASS_HEADER)) {
+            requestSpec.removeHeader(BYPASS_HEADER);
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        // Validadores definidos pelo próprio teste são respeitados sem interferência
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())
+                || requestSpec.getHeaders().hasHeaderWithName("If-None-Match")
+                || requestSpec.getHeaders().hasHeaderWithName("If-Modified-Since")) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String url = requestSpec.getURI();
+        EndpointStats endpoint = stats.computeIfAbsent(EndpointTemplates.of(requestSpec.getUserDefinedPath()),
+                key -> new EndpointStats());
+        endpoint.requests.increment();
+
+        List<Entry> variants;
+        synchronized (entries) {
+            variants = entries.getOrDefault(url, List.of());
+        }
+        if (!variants.isEmpty()) {
+            // If-None-Match lista os ETags de todas as variantes guardadas (RFC 9111, 4.3.1)
+            String etags = variants.stream()
+                    .map(variant -> variant.etag)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining(", "));
+            if (!etags.isEmpty()) {
+                requestSpec.header("If-None-Match", etags);
+            }
+            if (variants.get(0).lastModified != null) {
+                requestSpec.header("If-Modified-Since", variants.get(0).lastModified);
+            }
+            endpoint.conditional.increment();
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        if (response.getStatusCode() == 304 && !variants.isEmpty()) {
+            String etag = response.getHeader("ETag");
+            Entry cached = variants.stream()
+                    .filter(variant -> etag != null && etag.equals(variant.etag))
+                    .findFirst()
+                    .orElse(variants.get(0));
+            endpoint.revalidated.increment();
+            endpoint.bytesSaved.add(cached.body.length);
+            return cached.toResponse(response.getHeaders());
+        }
+
+        byte[] body = response.asByteArray();
+        endpoint.bytesDownloaded.add(body.length);
+        String etag = response.getHeader("ETag");
+        String lastModified = response.getHeader("Last-Modified");
+        if (response.getStatusCode() == 200 && (etag != null || lastModified != null)) {
+            List<Header> headers = new ArrayList<>();
+            response.getHeaders().forEach(headers::add);
+            Entry entry = new Entry(etag, lastModified, response.getStatusLine(), response.getContentType(), headers, body);
+            synchronized (entries) {
+                List<Entry> updated = new ArrayList<>();
+                updated.add(entry);
+                entries.getOrDefault(url, List.of()).stream()
+                        .filter(variant -> variant.etag != null && !variant.etag.equals(etag))
+                        .limit(MAX_VARIANTS - 1)
+                        .forEach(updated::add);
+                entries.put(url, List.copyOf(updated));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * @return Revalidações 304 e bytes economizados, no total e por template de endpoint
+     */
+    public String statistics() {
+        long requests = 0;
+        long revalidated = 0;
+        long saved = 0;
+        long downloaded = 0;
+        StringBuilder perEndpoint = new StringBuilder();
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(stats).entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            requests += endpoint.requests.sum();
+            revalidated += endpoint.revalidated.sum();
+            saved += endpoint.bytesSaved.sum();
+            downloaded += endpoint.bytesDownloaded.sum();
+            perEndpoint.append(String.format(Locale.ROOT, "%n  %s: %d GETs, %d condicionais, %d respostas 304 (%.0f%%), "
+                            + "%d KiB baixados, %d KiB economizados",
+                    entry.getKey(), endpoint.requests.sum(), endpoint.conditional.sum(), endpoint.revalidated.sum(),
+                    percent(endpoint.revalidated.sum(), endpoint.requests.sum()),
+                    endpoint.bytesDownloaded.sum() / 1024, endpoint.bytesSaved.sum() / 1024));
+        }
+
+        return String.format(Locale.ROOT, "Validadores HTTP: %d GETs, %d respostas 304 (%.0f%%), %d KiB baixados, "
+                        + "%d KiB economizados (%.0f%% do volume)%s",
+                requests, revalidated, percent(revalidated, requests), downloaded / 1024, saved / 1024,
+                percent(saved, saved + downloaded), perEndpoint);
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : 100.0 * part / total;
+    }
+
+    private static final class Entry {
+        final String etag;
+        final String lastModified;
+        final String statusLine;
+        final String contentType;
+        final List<Header> headers;
+        final byte[] body;
+
+        Entry(String etag, String lastModified, String statusLine, String contentType, List<Header> headers, byte[] body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.statusLine = statusLine;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        /**
+         * Monta a resposta 200 a partir do body guardado; headers presentes no 304 (ETag, Date,
+         * Cache-Control...) substituem os guardados, exceto os que descrevem o body (RFC 9111, 4.3.4).
+         */
+        Response toResponse(Headers notModified) {
+            Map<String, Header> merged = new LinkedHashMap<>();
+            headers.forEach(header -> merged.put(header.getName().toLowerCase(Locale.ROOT), header));
+            for (Header header : notModified) {
+                String name = header.getName().toLowerCase(Locale.ROOT);
+                if (!REPRESENTATION_HEADERS.contains(name)) {
+                    merged.put(name, header);
+                }
+            }
+            List<Header> result = new ArrayList<>(merged.values());
+            result.add(new Header(REVALIDATED_HEADER, "revalidated"));
+
+            return new ResponseBuilder()
+                    .setStatusCode(200)
+                    .setStatusLine(statusLine)
+                    .setHeaders(new Headers(result))
+                    .setContentType(contentType == null ? "" : contentType)
+                    .setBody(body)
+                    .build();
+        }
+    }
+
+    private static final class EndpointStats {
+        final LongAdder requests = new LongAdder();
+        final LongAdder conditional = new LongAdder();
+        final LongAdder revalidated = new LongAdder();
+        final LongAdder bytesDownloaded = new LongAdder();
+        final LongAdder bytesSaved = new LongAdder();
+    }
+}